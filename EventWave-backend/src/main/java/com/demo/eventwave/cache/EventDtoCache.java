@@ -0,0 +1,23 @@
+package com.demo.eventwave.cache;
+
+import com.demo.eventwave.dto.EventDTO;
+
+/**
+ * Cache of assembled, user-independent {@link EventDTO}s keyed by event id.
+ * Implementations must return copies so callers can layer per-user fields
+ * (e.g. inWishlist) on top without affecting other readers.
+ * Declare another bean of this type (e.g. backed by Redis) to replace the
+ * default in-process cache in a multi-node deployment.
+ */
+public interface EventDtoCache {
+
+    EventDTO get(Long eventId);
+
+    void put(Long eventId, EventDTO dto);
+
+    void evict(Long eventId);
+
+    void clear();
+
+    CacheStats stats();
+}
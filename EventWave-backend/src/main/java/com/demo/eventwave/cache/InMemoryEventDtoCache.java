@@ -0,0 +1,103 @@
+package com.demo.eventwave.cache;
+
+import com.demo.eventwave.dto.EventDTO;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded LRU cache with a fixed time-to-live per entry, local to this JVM.
+ */
+public class InMemoryEventDtoCache implements EventDtoCache {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final Map<Long, Entry> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public InMemoryEventDtoCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, Clock.systemUTC());
+    }
+
+    InMemoryEventDtoCache(int maxSize, Duration ttl, Clock clock) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+        // Access-ordered so the eldest entry is always the least recently used
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                if (size() > InMemoryEventDtoCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public EventDTO get(Long eventId) {
+        synchronized (entries) {
+            Entry entry = entries.get(eventId);
+            if (entry == null) {
+                misses.incrementAndGet();
+                return null;
+            }
+            if (entry.expiresAt <= clock.millis()) {
+                entries.remove(eventId);
+                evictions.incrementAndGet();
+                misses.incrementAndGet();
+                return null;
+            }
+            hits.incrementAndGet();
+            return new EventDTO(entry.dto);
+        }
+    }
+
+    @Override
+    public void put(Long eventId, EventDTO dto) {
+        Entry entry = new Entry(new EventDTO(dto), clock.millis() + ttlMillis);
+        synchronized (entries) {
+            entries.put(eventId, entry);
+        }
+    }
+
+    @Override
+    public void evict(Long eventId) {
+        synchronized (entries) {
+            entries.remove(eventId);
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    @Override
+    public CacheStats stats() {
+        synchronized (entries) {
+            return new CacheStats(hits.get(), misses.get(), evictions.get(), entries.size());
+        }
+    }
+
+    private static final class Entry {
+        private final EventDTO dto;
+        private final long expiresAt;
+
+        Entry(EventDTO dto, long expiresAt) {
+            this.dto = dto;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.demo.eventwave.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Remembers tokens that already passed signature verification, keyed by their
+ * SHA-256 digest so raw tokens are never held in memory. Each entry lives until
+ * the token's own expiry, so a cached token is never accepted past its {@code exp}.
+ * When full, new tokens are simply verified on every request until space frees up.
+ */
+@Component
+public class JwtClaimsCache {
+
+    private final int maxSize;
+    private final Clock clock;
+    private final Map<ByteBuffer, VerifiedToken> entries = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    @Autowired
+    public JwtClaimsCache(@Value("${eventwave.cache.jwt.max-size:10000}") int maxSize) {
+        this(maxSize, Clock.systemUTC());
+    }
+
+    JwtClaimsCache(int maxSize, Clock clock) {
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    public VerifiedToken get(String token) {
+        ByteBuffer key = digest(token);
+        VerifiedToken entry = entries.get(key);
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        if (entry.expiresAt <= clock.millis()) {
+            if (entries.remove(key, entry)) {
+                evictions.incrementAndGet();
+            }
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry;
+    }
+
+    // Returns the verified entry whether or not there was room to keep it
+    public VerifiedToken put(String token, String username, List<SimpleGrantedAuthority> authorities, Date expiration) {
+        VerifiedToken entry = new VerifiedToken(username, List.copyOf(authorities),
+                expiration == null ? Long.MAX_VALUE : expiration.getTime());
+        // Tokens without an expiry are never cached
+        if (expiration == null || maxSize <= 0) {
+            return entry;
+        }
+        if (entries.size() >= maxSize) {
+            purgeExpired();
+            if (entries.size() >= maxSize) {
+                return entry;
+            }
+        }
+        entries.put(digest(token), entry);
+        return entry;
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hits.get(), misses.get(), evictions.get(), entries.size());
+    }
+
+    private void purgeExpired() {
+        long now = clock.millis();
+        entries.entrySet().removeIf(entry -> {
+            if (entry.getValue().expiresAt <= now) {
+                evictions.incrementAndGet();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public static final class VerifiedToken {
+
+        private final String username;
+        private final List<SimpleGrantedAuthority> authorities;
+        private final long expiresAt;
+
+        VerifiedToken(String username, List<SimpleGrantedAuthority> authorities, long expiresAt) {
+            this.username = username;
+            this.authorities = authorities;
+            this.expiresAt = expiresAt;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public List<SimpleGrantedAuthority> getAuthorities() {
+            return authorities;
+        }
+
+        public long getExpiresAt() {
+            return expiresAt;
+        }
+    }
+}
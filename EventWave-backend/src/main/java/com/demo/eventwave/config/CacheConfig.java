@@ -0,0 +1,19 @@
+package com.demo.eventwave.config;
+
+import com.demo.eventwave.cache.EventDtoCache;
+import com.demo.eventwave.cache.InMemoryEventDtoCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public EventDtoCache eventDtoCache(@Value("${eventwave.cache.events.max-size:10000}") int maxSize,
+                                       @Value("${eventwave.cache.events.ttl:PT10M}") Duration ttl) {
+        return new InMemoryEventDtoCache(maxSize, ttl);
+    }
+}
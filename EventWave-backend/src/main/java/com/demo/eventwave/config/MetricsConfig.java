@@ -0,0 +1,91 @@
+package com.demo.eventwave.config;
+
+import com.demo.eventwave.cache.CacheStats;
+import com.demo.eventwave.cache.EventDtoCache;
+import com.demo.eventwave.cache.JwtClaimsCache;
+import com.demo.eventwave.metrics.RepositoryStatementMetrics;
+import com.demo.eventwave.service.RegistrationAdmissionQueue;
+import com.demo.eventwave.util.BoundedPasswordEncoder;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.Function;
+
+/**
+ * Application metrics on top of what Spring Boot records itself (http.server.requests
+ * per endpoint, spring.data.repository.invocations per repository method, JVM, pool).
+ * Scraped from /actuator/prometheus.
+ */
+@Configuration
+public class MetricsConfig {
+
+    // Makes @Timed on the services record eventwave.service timers
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    // Unless a statement inspector is already configured through properties
+    @Bean
+    public HibernatePropertiesCustomizer repositoryStatementCounting(RepositoryStatementMetrics statementMetrics) {
+        return properties -> properties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR, statementMetrics);
+    }
+
+    @Bean
+    public MeterBinder cacheMetrics(EventDtoCache eventDtoCache, JwtClaimsCache jwtClaimsCache) {
+        return registry -> {
+            bindCache(registry, "events", eventDtoCache, EventDtoCache::stats);
+            bindCache(registry, "jwt", jwtClaimsCache, JwtClaimsCache::stats);
+        };
+    }
+
+    @Bean
+    public MeterBinder passwordHashingMetrics(BoundedPasswordEncoder passwordEncoder) {
+        return registry -> {
+            Gauge.builder("eventwave.password.hashing.active", passwordEncoder, BoundedPasswordEncoder::getActiveCount)
+                    .description("Password hashes being computed")
+                    .register(registry);
+            Gauge.builder("eventwave.password.hashing.queued", passwordEncoder, BoundedPasswordEncoder::getQueueDepth)
+                    .description("Password hashes waiting for the hashing pool")
+                    .register(registry);
+            FunctionCounter.builder("eventwave.password.hashing.rejected", passwordEncoder, BoundedPasswordEncoder::getRejectedCount)
+                    .description("Logins and sign-ups turned away because the hashing pool was full")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder registrationQueueMetrics(RegistrationAdmissionQueue admissionQueue) {
+        return registry -> Gauge.builder("eventwave.registration.queue.depth", admissionQueue,
+                        queue -> queue.stats().getDepthByEvent().values().stream().mapToInt(Integer::intValue).sum())
+                .description("Registrations waiting in the admission queue, all events")
+                .register(registry);
+    }
+
+    // Meters hold their source weakly, so they are bound to the cache beans themselves
+    private static <T> void bindCache(MeterRegistry registry, String cache, T source, Function<T, CacheStats> stats) {
+        FunctionCounter.builder("eventwave.cache.requests", source, c -> stats.apply(c).getHits())
+                .tag("cache", cache).tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("eventwave.cache.requests", source, c -> stats.apply(c).getMisses())
+                .tag("cache", cache).tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("eventwave.cache.evictions", source, c -> stats.apply(c).getEvictions())
+                .tag("cache", cache)
+                .register(registry);
+        Gauge.builder("eventwave.cache.size", source, c -> stats.apply(c).getSize())
+                .tag("cache", cache)
+                .register(registry);
+        Gauge.builder("eventwave.cache.hit.ratio", source, c -> stats.apply(c).getHitRate())
+                .tag("cache", cache)
+                .description("Hits over lookups since startup")
+                .register(registry);
+    }
+}
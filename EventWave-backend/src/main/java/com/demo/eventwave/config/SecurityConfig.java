@@ -3,10 +3,14 @@ package com.demo.eventwave.config;
 import com.demo.eventwave.filter.JwtAuthenticationFilter;
 import com.demo.eventwave.filter.JsonUsernamePasswordAuthenticationFilter;
 import com.demo.eventwave.service.UserDetailsServiceImpl;
+import com.demo.eventwave.util.BoundedPasswordEncoder;
 import com.demo.eventwave.util.JwtUtil;
 
+import jakarta.servlet.DispatcherType;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -20,6 +24,7 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -45,16 +50,21 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, AuthenticationProvider daoAuthenticationProvider) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 // ✅ FIX #1: Correctly apply the CORS configuration source
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(auth -> auth
+                        // Async re-dispatches (queued registrations) were already authorized on the original request
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // Public endpoints
                         .requestMatchers(HttpMethod.POST, "/api/auth/login").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/auth/register").permitAll()
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                        // Probes and the Prometheus scrape; keep them off the public port via management.server.port
+                        .requestMatchers(HttpMethod.GET, "/actuator/health", "/actuator/prometheus").permitAll()
 
                         // User details endpoints
                         .requestMatchers(HttpMethod.GET,"/api/user/me").hasAnyRole("USER", "ORGANIZER")
@@ -62,7 +72,7 @@ public class SecurityConfig {
                         
                         // Organizer-only endpoints
                         .requestMatchers(HttpMethod.GET, "/api/organizer/events/**").hasRole("ORGANIZER")
-                        .requestMatchers(HttpMethod.POST, "/api/organizer/events").hasRole("ORGANIZER")
+                        .requestMatchers(HttpMethod.POST, "/api/organizer/events", "/api/organizer/events/import", "/api/organizer/events/series").hasRole("ORGANIZER")
                         .requestMatchers(HttpMethod.PUT, "/api/organizer/events/**").hasRole("ORGANIZER")
                         .requestMatchers(HttpMethod.DELETE, "/api/organizer/events/**").hasRole("ORGANIZER")
 
@@ -71,6 +81,7 @@ public class SecurityConfig {
                         .requestMatchers("/api/attendee/events/**").hasAnyRole("USER", "ORGANIZER")
                         
                         
+                        .requestMatchers(HttpMethod.GET, "/api/registrations/queue/**").hasRole("ORGANIZER")
                         .requestMatchers(HttpMethod.GET, "/api/registrations/**").hasAnyRole("USER", "ORGANIZER")
                         .requestMatchers(HttpMethod.POST,"/api/registrations/register/**").hasAnyRole("USER", "ORGANIZER")
                         .requestMatchers(HttpMethod.POST,"/api/registrations/unregister").hasAnyRole("USER", "ORGANIZER")
@@ -88,7 +99,7 @@ public class SecurityConfig {
                 .sessionManagement(sess -> sess
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
-                .authenticationProvider(daoAuthenticationProvider())
+                .authenticationProvider(daoAuthenticationProvider)
                 // We'll keep their filter order for now, as login works.
                 .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(jsonAuthFilter(), UsernamePasswordAuthenticationFilter.class);
@@ -121,9 +132,15 @@ public class SecurityConfig {
         return filter;
     }
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
+    // Hashes are stored as {bcrypt}...; legacy unprefixed hashes still match and are upgraded on next login
+    @Bean(destroyMethod = "shutdown")
+    public BoundedPasswordEncoder passwordEncoder(@Value("${eventwave.security.password.bcrypt-strength:12}") int strength,
+                                                  @Value("${eventwave.security.password.hashing-threads:2}") int threads,
+                                                  @Value("${eventwave.security.password.hashing-queue:16}") int queueCapacity) {
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt",
+                Map.of("bcrypt", new BCryptPasswordEncoder(strength)));
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder(strength));
+        return new BoundedPasswordEncoder(encoder, threads, queueCapacity);
     }
 
     @Bean
@@ -132,10 +149,12 @@ public class SecurityConfig {
     }
 
     @Bean
-    public AuthenticationProvider daoAuthenticationProvider() {
+    public AuthenticationProvider daoAuthenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
         provider.setUserDetailsService(userDetailsService);
-        provider.setPasswordEncoder(passwordEncoder());
+        provider.setPasswordEncoder(passwordEncoder);
+        // Rehashes on successful login when the stored hash is outdated (strength or algorithm changed)
+        provider.setUserDetailsPasswordService(userDetailsService);
         provider.setHideUserNotFoundExceptions(false);
         return provider;
     }
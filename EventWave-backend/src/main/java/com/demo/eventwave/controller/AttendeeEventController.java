@@ -1,6 +1,8 @@
 package com.demo.eventwave.controller;
 
 import com.demo.eventwave.dto.EventDTO;
+import com.demo.eventwave.dto.PageDTO;
+import com.demo.eventwave.dto.RegisteredEventDTO;
 import com.demo.eventwave.dto.ReviewDTO;
 import com.demo.eventwave.dto.ReviewRequest;
 import com.demo.eventwave.entity.EventCategory;
@@ -29,18 +31,23 @@ public class AttendeeEventController {
         this.attendeeEventService = attendeeEventService;
     }
 
-    // ✅ 1. Get registered events for logged-in user
+    // ✅ 1. Get registered events for logged-in user, optionally only upcoming or past ones
     @GetMapping("/my-registrations")
-    public ResponseEntity<List<EventDTO>> getMyRegisteredEvents(@AuthenticationPrincipal UserDetails userDetails) {
+    public ResponseEntity<List<RegisteredEventDTO>> getMyRegisteredEvents(@RequestParam(required = false) String when,
+                                                                          @AuthenticationPrincipal UserDetails userDetails) {
         if (userDetails == null) {
             logger.warn("Unauthenticated access attempt to /my-registrations");
             return ResponseEntity.status(401).build();
         }
-        String username = userDetails.getUsername();
         logger.debug("Fetching registered events for user: {}", userDetails.getUsername());
-        List<EventDTO> events = attendeeEventService.getEventsRegisteredByUser(userDetails.getUsername());
-        logger.info("Found {} registered events for user: {}", events.size(), userDetails.getUsername());
-        return ResponseEntity.ok(events);
+        try {
+            List<RegisteredEventDTO> events = attendeeEventService.getEventsRegisteredByUser(userDetails.getUsername(), when);
+            logger.info("Found {} registered events for user: {}", events.size(), userDetails.getUsername());
+            return ResponseEntity.ok(events);
+        } catch (IllegalArgumentException ex) {
+            logger.warn("Bad my-registrations request: {}", ex.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     // ✅ 2. Get specific event by ID
@@ -71,6 +78,88 @@ public class AttendeeEventController {
         return ResponseEntity.ok(events);
     }
 
+    // ✅ 3b. Paginated catalog (cursor-based), filters are optional and combinable
+    @GetMapping("/page")
+    public ResponseEntity<PageDTO<EventDTO>> getEventsPage(@RequestParam(required = false) String cursor,
+                                                           @RequestParam(required = false) Integer size,
+                                                           @RequestParam(required = false) String category,
+                                                           @RequestParam(required = false) String location,
+                                                           @RequestParam(required = false) LocalDateTime start,
+                                                           @RequestParam(required = false) LocalDateTime end,
+                                                           @AuthenticationPrincipal UserDetails userDetails) {
+        String username = userDetails != null ? userDetails.getUsername() : null;
+        try {
+            PageDTO<EventDTO> page = attendeeEventService.getEventsPage(username, parseCategory(category), location,
+                    start, end, cursor, size);
+            logger.info("Retrieved page of {} events, hasMore: {}", page.getItems().size(), page.isHasMore());
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException ex) {
+            logger.warn("Bad catalog page request: {}", ex.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // ✅ 3c. Ranked search across title, description and location
+    @GetMapping("/search")
+    public ResponseEntity<List<EventDTO>> searchEvents(@RequestParam("q") String query,
+                                                       @RequestParam(required = false) Integer limit,
+                                                       @AuthenticationPrincipal UserDetails userDetails) {
+        String username = userDetails != null ? userDetails.getUsername() : null;
+        logger.debug("Searching events for query: {}", query);
+        List<EventDTO> events = attendeeEventService.searchEvents(query, limit, username);
+        logger.info("Found {} events matching query: {}", events.size(), query);
+        return ResponseEntity.ok(events);
+    }
+
+    // ✅ 3d. Events within radiusKm (default 10) of a point, nearest first; category and dates are optional
+    @GetMapping("/nearby")
+    public ResponseEntity<List<EventDTO>> getEventsNearby(@RequestParam("lat") double latitude,
+                                                          @RequestParam("lng") double longitude,
+                                                          @RequestParam(required = false) Double radiusKm,
+                                                          @RequestParam(required = false) String category,
+                                                          @RequestParam(required = false) LocalDateTime start,
+                                                          @RequestParam(required = false) LocalDateTime end,
+                                                          @RequestParam(required = false) Integer limit,
+                                                          @AuthenticationPrincipal UserDetails userDetails) {
+        String username = userDetails != null ? userDetails.getUsername() : null;
+        try {
+            List<EventDTO> events = attendeeEventService.findEventsNearby(latitude, longitude, radiusKm,
+                    parseCategory(category), start, end, limit, username);
+            logger.info("Found {} events near ({}, {})", events.size(), latitude, longitude);
+            return ResponseEntity.ok(events);
+        } catch (IllegalArgumentException ex) {
+            logger.warn("Bad nearby request: {}", ex.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // ✅ 3e. Events inside a map viewport, soonest first
+    @GetMapping("/within")
+    public ResponseEntity<List<EventDTO>> getEventsInBox(@RequestParam("minLat") double minLatitude,
+                                                         @RequestParam("minLng") double minLongitude,
+                                                         @RequestParam("maxLat") double maxLatitude,
+                                                         @RequestParam("maxLng") double maxLongitude,
+                                                         @RequestParam(required = false) String category,
+                                                         @RequestParam(required = false) LocalDateTime start,
+                                                         @RequestParam(required = false) LocalDateTime end,
+                                                         @RequestParam(required = false) Integer limit,
+                                                         @AuthenticationPrincipal UserDetails userDetails) {
+        String username = userDetails != null ? userDetails.getUsername() : null;
+        try {
+            List<EventDTO> events = attendeeEventService.findEventsInBox(minLatitude, minLongitude,
+                    maxLatitude, maxLongitude, parseCategory(category), start, end, limit, username);
+            logger.info("Found {} events in viewport", events.size());
+            return ResponseEntity.ok(events);
+        } catch (IllegalArgumentException ex) {
+            logger.warn("Bad viewport request: {}", ex.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    private static EventCategory parseCategory(String category) {
+        return category != null ? EventCategory.valueOf(category.toUpperCase().replace(" ", "_")) : null;
+    }
+
     // ✅ 4. Search events by title
     @GetMapping("/search/title/{title}")
     public ResponseEntity<List<EventDTO>> searchEventsByTitle(@PathVariable String title) {
@@ -132,7 +221,8 @@ public class AttendeeEventController {
 
         String feedback = reviewRequest.getFeedback();
 
-        ReviewDTO review = attendeeEventService.createReview(eventId, userDetails.getUsername(), feedback);
+        ReviewDTO review = attendeeEventService.createReview(eventId, userDetails.getUsername(),
+                reviewRequest.getRating(), feedback);
         logger.info("Review created for event {} by user {}", eventId, userDetails.getUsername());
         return ResponseEntity.ok(review);
     }
@@ -145,4 +235,20 @@ public class AttendeeEventController {
         logger.info("Found {} reviews for event ID {}", reviews.size(), eventId);
         return ResponseEntity.ok(reviews);
     }
+
+    // ✅ 10b. Newest-first page of reviews; pass nextCursor back as ?cursor= for the next page
+    @GetMapping("/{eventId}/reviews/page")
+    public ResponseEntity<PageDTO<ReviewDTO>> getEventReviewsPage(@PathVariable Long eventId,
+                                                                  @RequestParam(required = false) String cursor,
+                                                                  @RequestParam(required = false) Integer size) {
+        try {
+            PageDTO<ReviewDTO> page = attendeeEventService.getEventReviewsPage(eventId, cursor, size, false);
+            logger.info("Retrieved page of {} reviews for event ID {}, hasMore: {}",
+                    page.getItems().size(), eventId, page.isHasMore());
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException ex) {
+            logger.warn("Bad review page request: {}", ex.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
 }
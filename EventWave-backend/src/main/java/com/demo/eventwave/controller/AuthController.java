@@ -1,18 +1,28 @@
 package com.demo.eventwave.controller;
 
 import com.demo.eventwave.entity.Role;
+import com.demo.eventwave.exception.PasswordHashingBusyException;
 import com.demo.eventwave.entity.User;
 import com.demo.eventwave.repository.UserRepository;
+import com.demo.eventwave.util.BoundedPasswordEncoder;
 import com.demo.eventwave.util.JwtUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
 @RestController
 @RequestMapping("/api/auth")
 public class AuthController {
@@ -22,16 +32,19 @@ public class AuthController {
     private final AuthenticationManager authManager;
     private final JwtUtil jwtUtil;
     private final UserRepository userRepo;
-    private final PasswordEncoder passwordEncoder;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final Executor taskExecutor;
 
     public AuthController(AuthenticationManager authManager,
                           JwtUtil jwtUtil,
                           UserRepository userRepo,
-                          PasswordEncoder passwordEncoder) {
+                          BoundedPasswordEncoder passwordEncoder,
+                          @Qualifier("applicationTaskExecutor") Executor taskExecutor) {
         this.authManager = authManager;
         this.jwtUtil = jwtUtil;
         this.userRepo = userRepo;
         this.passwordEncoder = passwordEncoder;
+        this.taskExecutor = taskExecutor;
         logger.info("AuthController initialized");
     }
 
@@ -61,34 +74,52 @@ public class AuthController {
     }
 
     @PostMapping("/register")
-    public String register(@RequestBody RegisterRequest request) {
+    public CompletableFuture<ResponseEntity<String>> register(@RequestBody RegisterRequest request) {
         logger.debug("Registration attempt for username: {}, email: {}", request.getUsername(), request.getEmail());
 
         if (userRepo.existsByUserName(request.getUsername())) {
             logger.warn("Registration failed - username already exists: {}", request.getUsername());
-            throw new RuntimeException("Username already exists");
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.status(HttpStatus.CONFLICT).body("Username already exists"));
         }
 
         if (userRepo.existsByEmail(request.getEmail())) {
             logger.warn("Registration failed - email already exists: {}", request.getEmail());
-            throw new RuntimeException("Email already exists");
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.status(HttpStatus.CONFLICT).body("Email already exists"));
         }
 
-        try {
-            User user = new User();
-            user.setUserName(request.getUsername());
-            user.setEmail(request.getEmail());
-            user.setPassword(passwordEncoder.encode(request.getPassword()));
-            user.setRole(request.getRole());
-
-            User savedUser = userRepo.save(user);
-            logger.info("Successfully registered new user: {} with role: {}", savedUser.getUserName(), savedUser.getRole());
-
-            return jwtUtil.generateToken(user.getUserName(), user.getRole().name());
-        } catch (Exception e) {
-            logger.error("Registration failed for username: {}. Error: {}", request.getUsername(), e.getMessage());
-            throw new RuntimeException("Registration failed", e);
-        }
+        // Hashing runs on the bounded password pool and the insert on the application task executor,
+        // so a hashing thread never waits for a DB connection; this request thread is released meanwhile
+        return passwordEncoder.encodeAsync(request.getPassword())
+                .thenApplyAsync(hash -> {
+                    User user = new User();
+                    user.setUserName(request.getUsername());
+                    user.setEmail(request.getEmail());
+                    user.setPassword(hash);
+                    user.setRole(request.getRole());
+
+                    User savedUser = userRepo.save(user);
+                    logger.info("Successfully registered new user: {} with role: {}", savedUser.getUserName(), savedUser.getRole());
+
+                    return ResponseEntity.ok(jwtUtil.generateToken(user.getUserName(), user.getRole().name()));
+                }, taskExecutor)
+                .exceptionally(ex -> {
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    if (cause instanceof PasswordHashingBusyException) {
+                        logger.warn("Registration throttled for username: {}", request.getUsername());
+                        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                                .header(HttpHeaders.RETRY_AFTER, "1")
+                                .body(cause.getMessage());
+                    }
+                    if (cause instanceof DataIntegrityViolationException) {
+                        // Lost a race with a concurrent registration past the checks above
+                        logger.warn("Registration failed - username or email taken concurrently: {}", request.getUsername());
+                        return ResponseEntity.status(HttpStatus.CONFLICT).body("Username or email already exists");
+                    }
+                    logger.error("Registration failed for username: {}. Error: {}", request.getUsername(), cause.getMessage());
+                    throw new RuntimeException("Registration failed", cause);
+                });
     }
 
     static class AuthRequest {
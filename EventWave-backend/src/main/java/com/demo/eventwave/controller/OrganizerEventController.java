@@ -1,21 +1,37 @@
 package com.demo.eventwave.controller;
 
+import com.demo.eventwave.dto.AttendeeDTO;
 import com.demo.eventwave.dto.EventDTO;
+import com.demo.eventwave.dto.EventImportResultDTO;
+import com.demo.eventwave.dto.EventSeriesDTO;
+import com.demo.eventwave.dto.PageDTO;
 import com.demo.eventwave.dto.ReviewDTO;
 import com.demo.eventwave.dto.ReviewSummaryDTO;
 import com.demo.eventwave.entity.User;
 import com.demo.eventwave.repository.UserRepository;
+import com.demo.eventwave.service.EventImportService;
+import com.demo.eventwave.service.EventSeriesService;
 import com.demo.eventwave.service.OrganizerEventService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
-
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -25,13 +41,24 @@ public class OrganizerEventController {
     private static final Logger logger = LoggerFactory.getLogger(OrganizerEventController.class);
 
     private final OrganizerEventService organizerEventService;
+    private final EventImportService eventImportService;
+    private final EventSeriesService eventSeriesService;
     private final UserRepository userRepository;
+    private final ObjectWriter ndjsonWriter;
+    private final ObjectWriter attendeeWriter;
 
     @Autowired
     public OrganizerEventController(OrganizerEventService organizerEventService,
-                                    UserRepository userRepository) {
+                                    EventImportService eventImportService,
+                                    EventSeriesService eventSeriesService,
+                                    UserRepository userRepository,
+                                    ObjectMapper objectMapper) {
         this.organizerEventService = organizerEventService;
+        this.eventImportService = eventImportService;
+        this.eventSeriesService = eventSeriesService;
         this.userRepository = userRepository;
+        this.ndjsonWriter = objectMapper.writerFor(ReviewDTO.class);
+        this.attendeeWriter = objectMapper.writerFor(AttendeeDTO.class);
         logger.info("OrganizerEventController initialized");
     }
 
@@ -58,6 +85,57 @@ public class OrganizerEventController {
         return ResponseEntity.ok(createdEvent);
     }
 
+    //Creates or updates many events at once from a JSON array; rows with an eventId update that event
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<EventImportResultDTO> importEvents(
+            @RequestBody List<EventDTO> events,
+            Authentication authentication) {
+
+        try {
+            return ResponseEntity.ok(eventImportService.importEvents(events, currentOrganizerId(authentication)));
+        } catch (IllegalArgumentException ex) {
+            logger.warn("Bad event import: {}", ex.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    //Same from a CSV upload with a header row (eventId,title,description,dateTime,location,capacity,price,category,imageUrl)
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<EventImportResultDTO> importEventsCsv(
+            InputStream body,
+            Authentication authentication) throws IOException {
+
+        try {
+            return ResponseEntity.ok(eventImportService.importCsv(
+                    new InputStreamReader(body, StandardCharsets.UTF_8), currentOrganizerId(authentication)));
+        } catch (IllegalArgumentException ex) {
+            logger.warn("Bad event CSV import: {}", ex.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    //Creates a recurring series; its occurrences are listed without being stored until someone registers
+    @PostMapping("/series")
+    public ResponseEntity<EventSeriesDTO> createSeries(
+            @RequestBody EventSeriesDTO seriesDTO,
+            Authentication authentication) {
+
+        try {
+            EventSeriesDTO created = eventSeriesService.createSeries(seriesDTO, currentOrganizerId(authentication));
+            logger.info("Successfully created event series with ID: {}", created.getSeriesId());
+            return ResponseEntity.ok(created);
+        } catch (IllegalArgumentException ex) {
+            logger.warn("Bad event series: {}", ex.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    private Long currentOrganizerId(Authentication authentication) {
+        return userRepository.findByUserName(authentication.getName())
+                .orElseThrow(() -> new RuntimeException("Organizer not found"))
+                .getUserId();
+    }
+
     //Retrieves all events created by the current organizer
     @GetMapping("/my-events")
     public ResponseEntity<List<EventDTO>> getMyEvents(@AuthenticationPrincipal UserDetails userDetails) {
@@ -114,9 +192,14 @@ public class OrganizerEventController {
                     return new RuntimeException("Organizer not found");
                 });
 
-        EventDTO updatedEvent = organizerEventService.updateEvent(eventId, eventDTO, organizer.getUserId());
-        logger.info("Successfully updated event with ID: {}", eventId);
-        return ResponseEntity.ok(updatedEvent);
+        try {
+            EventDTO updatedEvent = organizerEventService.updateEvent(eventId, eventDTO, organizer.getUserId());
+            logger.info("Successfully updated event with ID: {}", eventId);
+            return ResponseEntity.ok(updatedEvent);
+        } catch (IllegalArgumentException ex) {
+            logger.warn("Bad event update: {}", ex.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
     }
     
  
@@ -154,6 +237,141 @@ public class OrganizerEventController {
         return ResponseEntity.ok(reviews);
     }
 
+    //Gets one newest-first page of reviews with feedback; pass nextCursor back as ?cursor=
+    @GetMapping("/{eventId}/reviews/page")
+    public ResponseEntity<PageDTO<ReviewDTO>> getEventReviewsPage(
+            @PathVariable Long eventId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        try {
+            PageDTO<ReviewDTO> page = organizerEventService.getEventReviewsPage(
+                    eventId, userDetails.getUsername(), cursor, size);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException ex) {
+            logger.warn("Bad review page request: {}", ex.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    //Streams every review with feedback as newline-delimited JSON, one batch in memory at a time
+    @GetMapping(value = "/{eventId}/reviews/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportEventReviews(
+            @PathVariable Long eventId,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        // Checked up front so a refusal is still a proper error response, not a truncated stream
+        organizerEventService.checkReviewAccess(eventId, userDetails.getUsername());
+
+        StreamingResponseBody body = out -> {
+            try {
+                organizerEventService.forEachReviewBatch(eventId, batch -> writeNdjson(batch, out));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .header("Content-Disposition", "attachment; filename=\"event-" + eventId + "-reviews.ndjson\"")
+                .body(body);
+    }
+
+    private void writeNdjson(List<ReviewDTO> batch, OutputStream out) {
+        try {
+            for (ReviewDTO review : batch) {
+                out.write(ndjsonWriter.writeValueAsBytes(review));
+                out.write('\n');
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    //Gets one page of confirmed attendees in registration order; pass nextCursor back as ?cursor=
+    @GetMapping("/{eventId}/attendees/page")
+    public ResponseEntity<PageDTO<AttendeeDTO>> getEventAttendeesPage(
+            @PathVariable Long eventId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        try {
+            PageDTO<AttendeeDTO> page = organizerEventService.getEventAttendeesPage(
+                    eventId, userDetails.getUsername(), cursor, size);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException ex) {
+            logger.warn("Bad attendee page request: {}", ex.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    //Streams every confirmed attendee as CSV (default) or newline-delimited JSON, one batch in memory at a time
+    @GetMapping(value = "/{eventId}/attendees/export", produces = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<StreamingResponseBody> exportEventAttendees(
+            @PathVariable Long eventId,
+            @RequestParam(defaultValue = "csv") String format,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        boolean csv = format.equalsIgnoreCase("csv");
+        if (!csv && !format.equalsIgnoreCase("ndjson")) {
+            logger.warn("Bad attendee export format: {}", format);
+            return ResponseEntity.badRequest().build();
+        }
+        // Checked up front so a refusal is still a proper error response, not a truncated stream
+        organizerEventService.checkAttendeeAccess(eventId, userDetails.getUsername());
+
+        StreamingResponseBody body = out -> {
+            try {
+                if (csv) {
+                    out.write("registrationId,userId,userName,email\n".getBytes(StandardCharsets.UTF_8));
+                }
+                organizerEventService.forEachAttendeeBatch(eventId,
+                        batch -> writeAttendees(batch, csv, out));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(csv ? "text/csv;charset=UTF-8" : "application/x-ndjson"))
+                .header("Content-Disposition", "attachment; filename=\"event-" + eventId + "-attendees."
+                        + (csv ? "csv" : "ndjson") + "\"")
+                .body(body);
+    }
+
+    private void writeAttendees(List<AttendeeDTO> batch, boolean csv, OutputStream out) {
+        try {
+            for (AttendeeDTO attendee : batch) {
+                if (csv) {
+                    String line = attendee.getRegistrationId() + "," + attendee.getUserId() + ","
+                            + csvField(attendee.getUserName()) + "," + csvField(attendee.getEmail()) + "\n";
+                    out.write(line.getBytes(StandardCharsets.UTF_8));
+                } else {
+                    out.write(attendeeWriter.writeValueAsBytes(attendee));
+                    out.write('\n');
+                }
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Quotes fields that need it, and defuses values a spreadsheet would run as a formula
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (!value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
     //Gets aggregated review statistics for an event
     @GetMapping("/{eventId}/reviews/summary")
     public ResponseEntity<ReviewSummaryDTO> getEventReviewSummary(
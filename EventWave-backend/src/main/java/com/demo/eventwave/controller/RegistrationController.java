@@ -2,19 +2,26 @@ package com.demo.eventwave.controller;
 
 
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import com.demo.eventwave.dto.EventRegisterRequest;
 import com.demo.eventwave.dto.EventRegisterResponse;
 import com.demo.eventwave.dto.RegisterRequest;
+import com.demo.eventwave.dto.RegistrationOutcome;
 import com.demo.eventwave.dto.UserDTO;
 import com.demo.eventwave.entity.Registration;
+import com.demo.eventwave.service.EventSeriesService;
+import com.demo.eventwave.service.RegistrationAdmissionQueue;
 import com.demo.eventwave.service.RegistrationService;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -29,14 +36,55 @@ public class RegistrationController {
     @Autowired  // Inject the RegistrationService to handle the business logic
     private RegistrationService registrationService;
 
+    @Autowired
+    private RegistrationAdmissionQueue admissionQueue;
+
+    @Autowired
+    private EventSeriesService eventSeriesService;
+
+    @Value("${eventwave.registration.queue.max-wait:PT3S}")
+    private Duration maxQueueWait;
+
+    // Goes through the per-event admission queue; the request thread is released while waiting.
+    // A series occurrence (seriesId + occurrence instead of eventId) gets its event row here first.
     @PostMapping("/register/{userId}")
-    public ResponseEntity<EventRegisterResponse> register(
+    public CompletableFuture<ResponseEntity<EventRegisterResponse>> register(
         @PathVariable Long userId,
         @RequestBody EventRegisterRequest request
     ) {
-        logger.info("Received registration request for userId={} and eventId={}", userId, request.getEventId());
-        EventRegisterResponse response = registrationService.registerUserForEvent(userId, request.getEventId());
-        return ResponseEntity.ok(response);
+        Long eventId = request.getEventId();
+        if (eventId == null && request.getSeriesId() != null) {
+            try {
+                eventId = eventSeriesService.materializeOccurrence(request.getSeriesId(), request.getOccurrence());
+            } catch (IllegalArgumentException ex) {
+                logger.warn("Bad occurrence registration for userId={}: {}", userId, ex.getMessage());
+                return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+            }
+        }
+        Long targetEventId = eventId;
+        logger.info("Received registration request for userId={} and eventId={}", userId, targetEventId);
+        EventRegisterResponse queued = new EventRegisterResponse(RegistrationOutcome.QUEUED,
+                "Registration queued.", null, null);
+
+        return admissionQueue.submit(userId, targetEventId)
+                .thenApply(ResponseEntity::ok)
+                // Still waiting: tell the caller it is queued; the registration completes in the background
+                .completeOnTimeout(ResponseEntity.status(HttpStatus.ACCEPTED).body(queued),
+                        maxQueueWait.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(ex -> {
+                    if (ex.getCause() instanceof RegistrationAdmissionQueue.QueueFullException
+                            || ex instanceof RegistrationAdmissionQueue.QueueFullException) {
+                        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+                    }
+                    logger.error("Registration failed for userId={} and eventId={}: {}",
+                            userId, targetEventId, ex.getMessage());
+                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+                });
+    }
+
+    @GetMapping("/queue/stats")
+    public ResponseEntity<RegistrationAdmissionQueue.QueueStats> getQueueStats() {
+        return ResponseEntity.ok(admissionQueue.stats());
     }
     
     @GetMapping("/{registrationId}")
@@ -82,4 +130,12 @@ public class RegistrationController {
         logger.info("Number of attendees found: {}", attendees.size());
         return ResponseEntity.ok(attendees);
     }
+
+    @GetMapping("/waitlist/{eventId}")  // Endpoint to fetch the waitlist for a given event, in promotion order
+    public ResponseEntity<List<UserDTO>> getWaitlist(@PathVariable Long eventId) {
+        logger.info("Fetching waitlist for eventId={}", eventId);
+        List<UserDTO> waitlist = registrationService.getWaitlistForEvent(eventId);
+        logger.info("Number of waitlisted users found: {}", waitlist.size());
+        return ResponseEntity.ok(waitlist);
+    }
 }
@@ -0,0 +1,51 @@
+package com.demo.eventwave.dto;
+
+// A confirmed attendee of an event, projected straight from the registration and its user
+public class AttendeeDTO {
+    private Long registrationId;
+    private Long userId;
+    private String userName;
+    private String email;
+
+    public AttendeeDTO() {
+    }
+
+    public AttendeeDTO(Long registrationId, Long userId, String userName, String email) {
+        this.registrationId = registrationId;
+        this.userId = userId;
+        this.userName = userName;
+        this.email = email;
+    }
+
+    public Long getRegistrationId() {
+        return registrationId;
+    }
+
+    public void setRegistrationId(Long registrationId) {
+        this.registrationId = registrationId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getUserName() {
+        return userName;
+    }
+
+    public void setUserName(String userName) {
+        this.userName = userName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+}
@@ -19,6 +19,12 @@ public class EventDTO {
     private Double averageRating;
     private Integer reviewCount;
     private String imageUrl;
+    // Set for occurrences of a series; an occurrence nobody registered for yet has no eventId
+    private Long seriesId;
+    private Double latitude;
+    private Double longitude;
+    // Only set in nearby results: great-circle distance from the searched point
+    private Double distanceKm;
 
 
     // Constructors
@@ -41,6 +47,28 @@ public class EventDTO {
         this.imageUrl = imageUrl;
     }
 
+    // Copy constructor, used when handing out cached instances
+    public EventDTO(EventDTO other) {
+        this.eventId = other.eventId;
+        this.title = other.title;
+        this.description = other.description;
+        this.dateTime = other.dateTime;
+        this.location = other.location;
+        this.capacity = other.capacity;
+        this.price = other.price;
+        this.organizerId = other.organizerId;
+        this.organizerName = other.organizerName;
+        this.category = other.category;
+        this.averageRating = other.averageRating;
+        this.reviewCount = other.reviewCount;
+        this.imageUrl = other.imageUrl;
+        this.inWishlist = other.inWishlist;
+        this.seriesId = other.seriesId;
+        this.latitude = other.latitude;
+        this.longitude = other.longitude;
+        this.distanceKm = other.distanceKm;
+    }
+
     // Getters and Setters
     public Long getEventId() {
         return eventId;
@@ -157,5 +185,37 @@ public class EventDTO {
 	public void setImageUrl(String imageUrl) {
 		this.imageUrl = imageUrl;
 	}
+
+    public Long getSeriesId() {
+        return seriesId;
+    }
+
+    public void setSeriesId(Long seriesId) {
+        this.seriesId = seriesId;
+    }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
+    public Double getDistanceKm() {
+        return distanceKm;
+    }
+
+    public void setDistanceKm(Double distanceKm) {
+        this.distanceKm = distanceKm;
+    }
     
 }
@@ -0,0 +1,56 @@
+package com.demo.eventwave.dto;
+
+import java.util.List;
+
+public class EventImportResultDTO {
+    private int created;
+    private int updated;
+    private int rejected;
+    private List<EventImportRowDTO> rows;  // One per input row, in input order
+
+    public EventImportResultDTO() {
+    }
+
+    public EventImportResultDTO(List<EventImportRowDTO> rows) {
+        this.rows = rows;
+        for (EventImportRowDTO row : rows) {
+            switch (row.getStatus()) {
+                case CREATED -> created++;
+                case UPDATED -> updated++;
+                case REJECTED -> rejected++;
+            }
+        }
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(int updated) {
+        this.updated = updated;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(int rejected) {
+        this.rejected = rejected;
+    }
+
+    public List<EventImportRowDTO> getRows() {
+        return rows;
+    }
+
+    public void setRows(List<EventImportRowDTO> rows) {
+        this.rows = rows;
+    }
+}
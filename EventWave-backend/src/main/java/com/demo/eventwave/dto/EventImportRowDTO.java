@@ -0,0 +1,66 @@
+package com.demo.eventwave.dto;
+
+// Outcome of one row of a bulk event import; rows are numbered from 1, header excluded
+public class EventImportRowDTO {
+
+    public enum Status { CREATED, UPDATED, REJECTED }
+
+    private int row;
+    private Status status;
+    private Long eventId;
+    private String error;
+
+    public EventImportRowDTO() {
+    }
+
+    public EventImportRowDTO(int row) {
+        this.row = row;
+    }
+
+    public void created(Long eventId) {
+        this.status = Status.CREATED;
+        this.eventId = eventId;
+    }
+
+    public void updated(Long eventId) {
+        this.status = Status.UPDATED;
+        this.eventId = eventId;
+    }
+
+    public void reject(String error) {
+        this.status = Status.REJECTED;
+        this.error = error;
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public void setRow(int row) {
+        this.row = row;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -1,7 +1,12 @@
 package com.demo.eventwave.dto;
 
+import java.time.LocalDateTime;
+
+// Either an eventId, or a seriesId with the occurrence's start for a series occurrence
 public class EventRegisterRequest {
     private Long eventId;
+    private Long seriesId;
+    private LocalDateTime occurrence;
 
     public EventRegisterRequest() {}
 
@@ -16,4 +21,20 @@ public class EventRegisterRequest {
     public void setEventId(Long eventId) {
         this.eventId = eventId;
     }
+
+    public Long getSeriesId() {
+        return seriesId;
+    }
+
+    public void setSeriesId(Long seriesId) {
+        this.seriesId = seriesId;
+    }
+
+    public LocalDateTime getOccurrence() {
+        return occurrence;
+    }
+
+    public void setOccurrence(LocalDateTime occurrence) {
+        this.occurrence = occurrence;
+    }
 }
@@ -4,6 +4,7 @@ public class EventRegisterResponse {
 	 private String message;
 	    private UserDTO user;
 	    private EventDTO event;
+	    private RegistrationOutcome outcome;
 		public String getMessage() {
 			return message;
 		}
@@ -22,12 +23,22 @@ public class EventRegisterResponse {
 		public void setEvent(EventDTO event) {
 			this.event = event;
 		}
+		public RegistrationOutcome getOutcome() {
+			return outcome;
+		}
+		public void setOutcome(RegistrationOutcome outcome) {
+			this.outcome = outcome;
+		}
 		public EventRegisterResponse(String message, UserDTO user, EventDTO event) {
 			super();
 			this.message = message;
 			this.user = user;
 			this.event = event;
 		}
+		public EventRegisterResponse(RegistrationOutcome outcome, String message, UserDTO user, EventDTO event) {
+			this(message, user, event);
+			this.outcome = outcome;
+		}
 		public EventRegisterResponse() {
 			super();
 			// TODO Auto-generated constructor stub
@@ -0,0 +1,157 @@
+package com.demo.eventwave.dto;
+
+import com.demo.eventwave.entity.EventCategory;
+import com.demo.eventwave.entity.RecurrenceFrequency;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class EventSeriesDTO {
+    private Long seriesId;
+    private String title;
+    private String description;
+    private String location;
+    private Integer capacity;
+    private BigDecimal price;
+    private Long organizerId;
+    private String organizerName;
+    private EventCategory category;
+    private String imageUrl;
+    private Double latitude;
+    private Double longitude;
+    private LocalDateTime firstStart;
+    private RecurrenceFrequency frequency;
+    private Integer repeatEvery;
+    private LocalDateTime repeatUntil;
+
+    public EventSeriesDTO() {
+    }
+
+    public Long getSeriesId() {
+        return seriesId;
+    }
+
+    public void setSeriesId(Long seriesId) {
+        this.seriesId = seriesId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public Integer getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    public Long getOrganizerId() {
+        return organizerId;
+    }
+
+    public void setOrganizerId(Long organizerId) {
+        this.organizerId = organizerId;
+    }
+
+    public String getOrganizerName() {
+        return organizerName;
+    }
+
+    public void setOrganizerName(String organizerName) {
+        this.organizerName = organizerName;
+    }
+
+    public EventCategory getCategory() {
+        return category;
+    }
+
+    public void setCategory(EventCategory category) {
+        this.category = category;
+    }
+
+    public String getImageUrl() {
+        return imageUrl;
+    }
+
+    public void setImageUrl(String imageUrl) {
+        this.imageUrl = imageUrl;
+    }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
+    public LocalDateTime getFirstStart() {
+        return firstStart;
+    }
+
+    public void setFirstStart(LocalDateTime firstStart) {
+        this.firstStart = firstStart;
+    }
+
+    public RecurrenceFrequency getFrequency() {
+        return frequency;
+    }
+
+    public void setFrequency(RecurrenceFrequency frequency) {
+        this.frequency = frequency;
+    }
+
+    public Integer getRepeatEvery() {
+        return repeatEvery;
+    }
+
+    public void setRepeatEvery(Integer repeatEvery) {
+        this.repeatEvery = repeatEvery;
+    }
+
+    public LocalDateTime getRepeatUntil() {
+        return repeatUntil;
+    }
+
+    public void setRepeatUntil(LocalDateTime repeatUntil) {
+        this.repeatUntil = repeatUntil;
+    }
+}
@@ -0,0 +1,56 @@
+package com.demo.eventwave.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+public class PageDTO<T> {
+    private List<T> items;
+    private String nextCursor;  // Opaque; pass back as ?cursor= to get the next page
+    private boolean hasMore;
+
+    public PageDTO() {
+    }
+
+    public PageDTO(List<T> items, String nextCursor, boolean hasMore) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    /**
+     * Page of rows fetched with a limit of pageSize + 1: the extra row only shows that another
+     * page exists and is dropped, and the cursor is taken from the last row kept.
+     */
+    public static <T> PageDTO<T> of(List<T> rows, int pageSize, Function<T, String> cursorOf) {
+        if (rows.size() <= pageSize) {
+            return new PageDTO<>(rows, null, false);
+        }
+        List<T> items = new ArrayList<>(rows.subList(0, pageSize));
+        return new PageDTO<>(items, cursorOf.apply(items.get(pageSize - 1)), true);
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
@@ -0,0 +1,52 @@
+package com.demo.eventwave.dto;
+
+import com.demo.eventwave.entity.EventCategory;
+import com.demo.eventwave.entity.RegistrationStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// An event the user registered for, with the registration itself; built directly by the repository query
+public class RegisteredEventDTO extends EventDTO {
+    private Long registrationId;
+    private RegistrationStatus registrationStatus;
+
+    public RegisteredEventDTO() {
+    }
+
+    public RegisteredEventDTO(Long eventId, String title, String description, LocalDateTime dateTime,
+                              String location, Integer capacity, BigDecimal price,
+                              Long organizerId, String organizerName, EventCategory category, String imageUrl,
+                              Long registrationId, RegistrationStatus registrationStatus, Boolean inWishlist) {
+        setEventId(eventId);
+        setTitle(title);
+        setDescription(description);
+        setDateTime(dateTime);
+        setLocation(location);
+        setCapacity(capacity);
+        setPrice(price);
+        setOrganizerId(organizerId);
+        setOrganizerName(organizerName);
+        setCategory(category);
+        setImageUrl(imageUrl);
+        setInWishlist(inWishlist);
+        this.registrationId = registrationId;
+        this.registrationStatus = registrationStatus;
+    }
+
+    public Long getRegistrationId() {
+        return registrationId;
+    }
+
+    public void setRegistrationId(Long registrationId) {
+        this.registrationId = registrationId;
+    }
+
+    public RegistrationStatus getRegistrationStatus() {
+        return registrationStatus;
+    }
+
+    public void setRegistrationStatus(RegistrationStatus registrationStatus) {
+        this.registrationStatus = registrationStatus;
+    }
+}
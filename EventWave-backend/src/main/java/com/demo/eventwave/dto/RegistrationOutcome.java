@@ -0,0 +1,9 @@
+package com.demo.eventwave.dto;
+
+public enum RegistrationOutcome {
+    CONFIRMED,
+    WAITLISTED,
+    ALREADY_REGISTERED,
+    QUEUED,
+    REJECTED
+}
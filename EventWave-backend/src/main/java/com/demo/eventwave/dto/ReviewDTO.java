@@ -7,7 +7,7 @@ public class ReviewDTO {
     private Long eventId;
     private Long userId;
     private String userName;
-   
+    private Integer rating;
     private String feedback;  // Only visible to organizer
     private LocalDateTime createdAt;
     private boolean showFeedback; // Indicates if feedback should be visible
@@ -49,7 +49,14 @@ public class ReviewDTO {
         this.userName = userName;
     }
 
-    
+    public Integer getRating() {
+        return rating;
+    }
+
+    public void setRating(Integer rating) {
+        this.rating = rating;
+    }
+
     /**
      * Returns feedback only if showFeedback is true
      */
@@ -91,5 +98,17 @@ public class ReviewDTO {
 		this.createdAt = createdAt;
 		this.showFeedback = showFeedback;
 	}
+
+    // Used by the JPQL projection; visibility is decided by the caller through setShowFeedback
+    public ReviewDTO(Long reviewId, Long eventId, Long userId, String userName, Integer rating,
+                     String feedback, LocalDateTime createdAt) {
+        this.reviewId = reviewId;
+        this.eventId = eventId;
+        this.userId = userId;
+        this.userName = userName;
+        this.rating = rating;
+        this.feedback = feedback;
+        this.createdAt = createdAt;
+    }
     
 }
\ No newline at end of file
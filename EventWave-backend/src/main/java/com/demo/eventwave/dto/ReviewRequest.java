@@ -2,9 +2,16 @@ package com.demo.eventwave.dto;
 
 public class ReviewRequest {
    
+    private Integer rating; // 1-5 stars
     private String feedback;
 
-   
+    public Integer getRating() {
+        return rating;
+    }
+
+    public void setRating(Integer rating) {
+        this.rating = rating;
+    }
 
     public String getFeedback() {
         return feedback;
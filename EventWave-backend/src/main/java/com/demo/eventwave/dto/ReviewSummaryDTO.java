@@ -1,9 +1,16 @@
 package com.demo.eventwave.dto;
 
+import java.util.Map;
+
 public class ReviewSummaryDTO {
     private Long eventId;
     private double averageRating;
     private int totalReviews;
+    private long ratingCount;          // reviews that carry a rating
+    private double ratingStdDev;
+    private Integer medianRating;      // null when nothing is rated
+    private Integer p90Rating;
+    private Map<Integer, Long> histogram; // stars -> number of reviews
 
     // Constructors, getters, setters
     public ReviewSummaryDTO() {}
@@ -38,4 +45,44 @@ public class ReviewSummaryDTO {
     public void setTotalReviews(int totalReviews) {
         this.totalReviews = totalReviews;
     }
+
+    public long getRatingCount() {
+        return ratingCount;
+    }
+
+    public void setRatingCount(long ratingCount) {
+        this.ratingCount = ratingCount;
+    }
+
+    public double getRatingStdDev() {
+        return ratingStdDev;
+    }
+
+    public void setRatingStdDev(double ratingStdDev) {
+        this.ratingStdDev = ratingStdDev;
+    }
+
+    public Integer getMedianRating() {
+        return medianRating;
+    }
+
+    public void setMedianRating(Integer medianRating) {
+        this.medianRating = medianRating;
+    }
+
+    public Integer getP90Rating() {
+        return p90Rating;
+    }
+
+    public void setP90Rating(Integer p90Rating) {
+        this.p90Rating = p90Rating;
+    }
+
+    public Map<Integer, Long> getHistogram() {
+        return histogram;
+    }
+
+    public void setHistogram(Map<Integer, Long> histogram) {
+        this.histogram = histogram;
+    }
 }
\ No newline at end of file
@@ -1,16 +1,12 @@
 package com.demo.eventwave.dto;
 
-import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
 @Data
 @Builder
-@NoArgsConstructor
-@AllArgsConstructor
 public class WishlistDTO {
     private Long eventId;
     private String eventTitle;
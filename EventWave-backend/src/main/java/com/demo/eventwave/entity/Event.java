@@ -1,12 +1,17 @@
 package com.demo.eventwave.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "events")
+@Table(name = "events",
+        // At most one row per series occurrence; also finds the occurrences already materialized in a window
+        uniqueConstraints = @UniqueConstraint(name = "uk_events_series_occurrence", columnNames = {"series_id", "date_time"}))
 public class Event {
 
     @Id
@@ -29,6 +34,11 @@ public class Event {
     @Column(nullable = false)
     private Integer capacity;
 
+    // Maintained only by EventRepository.reserveSeat/releaseSeat, never by entity updates
+    @ColumnDefault("0")
+    @Column(name = "seats_taken", nullable = false, updatable = false)
+    private Integer seatsTaken = 0;
+
     @Column(nullable = false)
     private BigDecimal price;
 
@@ -37,6 +47,7 @@ public class Event {
     private User organizer;
 
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     @Column(nullable = false)
     private EventCategory category;
 
@@ -46,6 +57,15 @@ public class Event {
     @Column(name = "image_url")
     private String imageUrl;
 
+    // Set when this row materializes an occurrence of an EventSeries
+    @Column(name = "series_id", updatable = false)
+    private Long seriesId;
+
+    // WGS84 degrees; both null when the event has no map position
+    private Double latitude;
+
+    private Double longitude;
+
 
    
 	public String getImageUrl() {
@@ -124,6 +144,14 @@ public class Event {
         this.capacity = capacity;
     }
 
+    public Integer getSeatsTaken() {
+        return seatsTaken;
+    }
+
+    public void setSeatsTaken(Integer seatsTaken) {
+        this.seatsTaken = seatsTaken;
+    }
+
     public BigDecimal getPrice() {
         return price;
     }
@@ -150,6 +178,30 @@ public class Event {
 
 
 
+    public Long getSeriesId() {
+        return seriesId;
+    }
+
+    public void setSeriesId(Long seriesId) {
+        this.seriesId = seriesId;
+    }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
     // Add getter and setter
     public List<Review> getReviews() {
         return reviews;
@@ -0,0 +1,186 @@
+package com.demo.eventwave.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Running review totals for one event, kept in step with the reviews table so
+ * listings never have to COUNT or scan reviews. One row per event, keyed by event ID.
+ * Count, sum and sum of squares give the mean and variance; ratings only take
+ * the values 1-5, so the histogram answers percentile queries exactly.
+ */
+@Entity
+@Table(name = "event_review_stats")
+public class EventReviewStats {
+
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    // Reviews that carry a rating; the average is ratingSum / ratingCount
+    @Column(name = "rating_count", nullable = false)
+    private long ratingCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    @Column(name = "rating_sum_squares", nullable = false)
+    private long ratingSumSquares;
+
+    // Histogram of 1-5 star ratings
+    @Column(name = "stars_1", nullable = false)
+    private long stars1;
+
+    @Column(name = "stars_2", nullable = false)
+    private long stars2;
+
+    @Column(name = "stars_3", nullable = false)
+    private long stars3;
+
+    @Column(name = "stars_4", nullable = false)
+    private long stars4;
+
+    @Column(name = "stars_5", nullable = false)
+    private long stars5;
+
+    public EventReviewStats() {
+    }
+
+    public EventReviewStats(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public double getAverageRating() {
+        return ratingCount == 0 ? 0.0 : (double) ratingSum / ratingCount;
+    }
+
+    // Population variance of the ratings
+    public double getRatingVariance() {
+        if (ratingCount == 0) {
+            return 0.0;
+        }
+        double mean = getAverageRating();
+        return Math.max(0.0, (double) ratingSumSquares / ratingCount - mean * mean);
+    }
+
+    // Nearest-rank percentile (0 < percentile <= 100) in stars, or null when nothing is rated
+    public Integer getRatingPercentile(double percentile) {
+        if (ratingCount == 0) {
+            return null;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * ratingCount));
+        long[] histogram = getHistogram();
+        long seen = 0;
+        for (int stars = 1; stars <= histogram.length; stars++) {
+            seen += histogram[stars - 1];
+            if (seen >= rank) {
+                return stars;
+            }
+        }
+        return histogram.length;
+    }
+
+    // Index 0 holds 1-star reviews, index 4 holds 5-star reviews
+    public long[] getHistogram() {
+        return new long[]{stars1, stars2, stars3, stars4, stars5};
+    }
+
+    public void addRating(int rating, long reviews) {
+        ratingCount += reviews;
+        ratingSum += (long) rating * reviews;
+        ratingSumSquares += (long) rating * rating * reviews;
+        switch (rating) {
+            case 1 -> stars1 += reviews;
+            case 2 -> stars2 += reviews;
+            case 3 -> stars3 += reviews;
+            case 4 -> stars4 += reviews;
+            case 5 -> stars5 += reviews;
+            default -> throw new IllegalArgumentException("Rating must be between 1 and 5");
+        }
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public long getReviewCount() {
+        return reviewCount;
+    }
+
+    public void setReviewCount(long reviewCount) {
+        this.reviewCount = reviewCount;
+    }
+
+    public long getRatingCount() {
+        return ratingCount;
+    }
+
+    public void setRatingCount(long ratingCount) {
+        this.ratingCount = ratingCount;
+    }
+
+    public long getRatingSum() {
+        return ratingSum;
+    }
+
+    public void setRatingSum(long ratingSum) {
+        this.ratingSum = ratingSum;
+    }
+
+    public long getRatingSumSquares() {
+        return ratingSumSquares;
+    }
+
+    public void setRatingSumSquares(long ratingSumSquares) {
+        this.ratingSumSquares = ratingSumSquares;
+    }
+
+    public long getStars1() {
+        return stars1;
+    }
+
+    public void setStars1(long stars1) {
+        this.stars1 = stars1;
+    }
+
+    public long getStars2() {
+        return stars2;
+    }
+
+    public void setStars2(long stars2) {
+        this.stars2 = stars2;
+    }
+
+    public long getStars3() {
+        return stars3;
+    }
+
+    public void setStars3(long stars3) {
+        this.stars3 = stars3;
+    }
+
+    public long getStars4() {
+        return stars4;
+    }
+
+    public void setStars4(long stars4) {
+        this.stars4 = stars4;
+    }
+
+    public long getStars5() {
+        return stars5;
+    }
+
+    public void setStars5(long stars5) {
+        this.stars5 = stars5;
+    }
+}
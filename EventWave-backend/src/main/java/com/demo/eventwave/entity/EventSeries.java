@@ -0,0 +1,218 @@
+package com.demo.eventwave.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A recurring event: one row holds the shared details and the recurrence rule
+ * (every {@code repeatEvery} days, weeks or months from {@code firstStart} up to
+ * {@code repeatUntil}). Occurrences are expanded on read; an occurrence only gets an
+ * {@link Event} row, linked back through {@link Event#getSeriesId()}, once someone
+ * registers for it.
+ */
+@Entity
+@Table(name = "event_series")
+public class EventSeries {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "series_id")
+    private Long seriesId;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(nullable = false)
+    private String location;
+
+    @Column(nullable = false)
+    private Integer capacity;
+
+    @Column(nullable = false)
+    private BigDecimal price;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "organizer_id", referencedColumnName = "user_id")
+    private User organizer;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false)
+    private EventCategory category;
+
+    @Column(name = "image_url")
+    private String imageUrl;
+
+    private Double latitude;
+
+    private Double longitude;
+
+    @Column(name = "first_start", nullable = false)
+    private LocalDateTime firstStart;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 16)
+    private RecurrenceFrequency frequency;
+
+    @Column(name = "repeat_every", nullable = false)
+    private Integer repeatEvery;
+
+    // Inclusive; every series ends, so a window query never has to expand an unbounded rule
+    @Column(name = "repeat_until", nullable = false)
+    private LocalDateTime repeatUntil;
+
+    public EventSeries() {
+    }
+
+    // Occurrences in [from, to] in date order, at most limit of them; a null to means up to repeatUntil
+    public List<LocalDateTime> occurrences(LocalDateTime from, LocalDateTime to, int limit) {
+        LocalDateTime last = to == null || to.isAfter(repeatUntil) ? repeatUntil : to;
+        List<LocalDateTime> occurrences = new ArrayList<>();
+        // Whole periods between the first start and from, so expansion starts next to the window, not at firstStart
+        long n = from.isAfter(firstStart) ? frequency.getUnit().between(firstStart, from) / repeatEvery : 0;
+        for (LocalDateTime next = occurrence(n); !next.isAfter(last) && occurrences.size() < limit; next = occurrence(++n)) {
+            if (!next.isBefore(from)) {
+                occurrences.add(next);
+            }
+        }
+        return occurrences;
+    }
+
+    public boolean isOccurrence(LocalDateTime dateTime) {
+        return occurrences(dateTime, dateTime, 1).contains(dateTime);
+    }
+
+    private LocalDateTime occurrence(long n) {
+        return frequency.advance(firstStart, n * repeatEvery);
+    }
+
+    public Long getSeriesId() {
+        return seriesId;
+    }
+
+    public void setSeriesId(Long seriesId) {
+        this.seriesId = seriesId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public Integer getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    public User getOrganizer() {
+        return organizer;
+    }
+
+    public void setOrganizer(User organizer) {
+        this.organizer = organizer;
+    }
+
+    public EventCategory getCategory() {
+        return category;
+    }
+
+    public void setCategory(EventCategory category) {
+        this.category = category;
+    }
+
+    public String getImageUrl() {
+        return imageUrl;
+    }
+
+    public void setImageUrl(String imageUrl) {
+        this.imageUrl = imageUrl;
+    }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
+    public LocalDateTime getFirstStart() {
+        return firstStart;
+    }
+
+    public void setFirstStart(LocalDateTime firstStart) {
+        this.firstStart = firstStart;
+    }
+
+    public RecurrenceFrequency getFrequency() {
+        return frequency;
+    }
+
+    public void setFrequency(RecurrenceFrequency frequency) {
+        this.frequency = frequency;
+    }
+
+    public Integer getRepeatEvery() {
+        return repeatEvery;
+    }
+
+    public void setRepeatEvery(Integer repeatEvery) {
+        this.repeatEvery = repeatEvery;
+    }
+
+    public LocalDateTime getRepeatUntil() {
+        return repeatUntil;
+    }
+
+    public void setRepeatUntil(LocalDateTime repeatUntil) {
+        this.repeatUntil = repeatUntil;
+    }
+}
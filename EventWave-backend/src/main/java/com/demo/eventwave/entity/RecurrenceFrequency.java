@@ -0,0 +1,25 @@
+package com.demo.eventwave.entity;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+public enum RecurrenceFrequency {
+    DAILY(ChronoUnit.DAYS),
+    WEEKLY(ChronoUnit.WEEKS),
+    MONTHLY(ChronoUnit.MONTHS);
+
+    private final ChronoUnit unit;
+
+    RecurrenceFrequency(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    public ChronoUnit getUnit() {
+        return unit;
+    }
+
+    // Always counted from the first start, so monthly series clamp to short months without drifting
+    public LocalDateTime advance(LocalDateTime start, long steps) {
+        return start.plus(steps, unit);
+    }
+}
@@ -3,6 +3,7 @@ package com.demo.eventwave.entity;
 
 public enum RegistrationStatus {
     CONFIRMED,
+    WAITLISTED,
     CANCELLED
 
 }
@@ -12,15 +12,17 @@ public class Review {
     @Column(name = "review_id")
     private Long reviewId;
 
-    @ManyToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "event_id", nullable = false)
     private Event event;
 
-    @ManyToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    
+    // 1-5 stars; null for reviews written before ratings existed
+    @Column(name = "rating")
+    private Integer rating;
 
     @Column(columnDefinition = "TEXT")
     private String feedback;
@@ -66,6 +68,13 @@ public class Review {
         this.user = user;
     }
 
+    public Integer getRating() {
+        return rating;
+    }
+
+    public void setRating(Integer rating) {
+        this.rating = rating;
+    }
 
     public String getFeedback() {
         return feedback;
@@ -0,0 +1,10 @@
+package com.demo.eventwave.exception;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+// An AuthenticationException so the login filter's failure handler can answer 429 instead of 401
+public class PasswordHashingBusyException extends AuthenticationServiceException {
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
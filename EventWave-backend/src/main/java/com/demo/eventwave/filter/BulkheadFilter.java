@@ -0,0 +1,138 @@
+package com.demo.eventwave.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Separate concurrency budgets for the auth, registration and catalog read paths, so that
+ * one of them slowing down (e.g. a catalog listing issuing many queries) cannot take every
+ * pooled connection and stall the others. Requests hold their connection until the
+ * response is written (open-in-view), so a path's concurrency budget is also its share of
+ * the Hikari pool. A request that cannot enter its bulkhead within
+ * {@code eventwave.bulkhead.max-wait} is answered 503 with Retry-After.
+ *
+ * Runs inside {@link ConcurrencyLimitFilter}'s global cap; paths outside the three
+ * bulkheads are only bounded by that cap.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkheadFilter.class);
+
+    private final Bulkhead auth;
+    private final Bulkhead registration;
+    private final Bulkhead catalog;
+    private final long maxWaitNanos;
+
+    public BulkheadFilter(@Value("${eventwave.bulkhead.auth.max-concurrent:32}") int authMaxConcurrent,
+                          @Value("${eventwave.bulkhead.registration.max-concurrent:4}") int registrationMaxConcurrent,
+                          @Value("${eventwave.bulkhead.catalog.max-concurrent:8}") int catalogMaxConcurrent,
+                          @Value("${eventwave.bulkhead.max-wait:PT0.1S}") Duration maxWait,
+                          MeterRegistry meterRegistry) {
+        this.auth = new Bulkhead("auth", authMaxConcurrent, meterRegistry);
+        this.registration = new Bulkhead("registration", registrationMaxConcurrent, meterRegistry);
+        this.catalog = new Bulkhead("catalog", catalogMaxConcurrent, meterRegistry);
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return bulkheadFor(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Bulkhead bulkhead = bulkheadFor(request);
+        if (!bulkhead.tryEnter(maxWaitNanos)) {
+            logger.warn("Rejected {} {}: {} bulkhead full", request.getMethod(), request.getRequestURI(), bulkhead.name);
+            ConcurrencyLimitFilter.writeBusy(response);
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            bulkhead.exit();
+        }
+    }
+
+    private Bulkhead bulkheadFor(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        if (uri.startsWith("/api/auth/")) {
+            return auth;
+        }
+        if (uri.startsWith("/api/registrations/")) {
+            return registration;
+        }
+        if ("GET".equals(request.getMethod()) && uri.startsWith("/api/attendee/events")) {
+            return catalog;
+        }
+        return null;
+    }
+
+    private static final class Bulkhead {
+
+        private final String name;
+        private final Semaphore permits;
+        private final Timer wait;
+        private final Counter rejected;
+
+        Bulkhead(String name, int maxConcurrent, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.permits = new Semaphore(maxConcurrent, true);
+            this.wait = Timer.builder("eventwave.bulkhead.wait")
+                    .description("Time requests waited to enter their bulkhead")
+                    .tag("bulkhead", name)
+                    .register(meterRegistry);
+            this.rejected = Counter.builder("eventwave.bulkhead.rejected")
+                    .description("Requests answered 503 because their bulkhead was full")
+                    .tag("bulkhead", name)
+                    .register(meterRegistry);
+            Gauge.builder("eventwave.bulkhead.in-flight", permits, p -> maxConcurrent - p.availablePermits())
+                    .description("Requests executing inside the bulkhead")
+                    .tag("bulkhead", name)
+                    .register(meterRegistry);
+        }
+
+        boolean tryEnter(long maxWaitNanos) {
+            long started = System.nanoTime();
+            boolean entered;
+            try {
+                entered = permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                entered = false;
+            }
+            if (entered) {
+                wait.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            } else {
+                rejected.increment();
+            }
+            return entered;
+        }
+
+        void exit() {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.demo.eventwave.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the number of API requests executing at once well below Tomcat's 200 threads, so a
+ * burst queues here, briefly, rather than as hundreds of callers waiting on the connection
+ * pool and MySQL. Requests that cannot get a slot within max-wait are answered 503 with
+ * Retry-After instead of piling up.
+ *
+ * The slot is held while the request thread runs; queued registrations release it once
+ * handed to the admission queue, whose workers are bounded on their own.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+    private final Semaphore slots;
+    private final long maxWaitNanos;
+    private final Counter rejected;
+
+    public ConcurrencyLimitFilter(@Value("${eventwave.concurrency.max-in-flight:60}") int maxInFlight,
+                                  @Value("${eventwave.concurrency.max-wait:PT1S}") Duration maxWait,
+                                  MeterRegistry meterRegistry) {
+        this.slots = new Semaphore(maxInFlight, true);
+        this.maxWaitNanos = maxWait.toNanos();
+        this.rejected = Counter.builder("eventwave.concurrency.rejected")
+                .description("API requests answered 503 because every in-flight slot was taken")
+                .register(meterRegistry);
+        Gauge.builder("eventwave.concurrency.in-flight", slots, s -> maxInFlight - s.availablePermits())
+                .description("API requests holding an in-flight slot")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = slots.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejected.increment();
+            logger.warn("Rejected {} {}: all in-flight slots busy", request.getMethod(), request.getRequestURI());
+            writeBusy(response);
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            slots.release();
+        }
+    }
+
+    // Written directly: an error dispatch would run the whole chain again
+    static void writeBusy(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader("Retry-After", "1");
+        response.setContentType("application/json");
+        response.getWriter().write("{\"error\": \"Server busy, retry shortly\"}");
+    }
+}
@@ -2,10 +2,13 @@ package com.demo.eventwave.filter;
 
 
 import com.demo.eventwave.dto.LoginRequest;
+import com.demo.eventwave.exception.PasswordHashingBusyException;
 import com.demo.eventwave.util.JwtUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -53,6 +56,14 @@ public class JsonUsernamePasswordAuthenticationFilter extends UsernamePasswordAu
         this.setAuthenticationFailureHandler((request, response, exception) -> {
             response.setContentType(MediaType.APPLICATION_JSON_VALUE);
             response.setCharacterEncoding("UTF-8");
+            // Hashing pool saturated: the credentials were never checked, so ask the client to retry
+            if (exception instanceof PasswordHashingBusyException) {
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                response.getWriter().write("{\"error\": \"Too many login attempts in progress, retry shortly\"}");
+                response.getWriter().flush();
+                return;
+            }
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             response.getWriter().write("{\"error\": \"Invalid username or password\"}");
             response.getWriter().flush();
@@ -1,5 +1,6 @@
 package com.demo.eventwave.filter;
 
+import com.demo.eventwave.cache.JwtClaimsCache;
 import com.demo.eventwave.util.JwtUtil;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
@@ -23,9 +24,11 @@ import java.util.stream.Collectors;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final JwtClaimsCache claimsCache;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, JwtClaimsCache claimsCache) {
         this.jwtUtil = jwtUtil;
+        this.claimsCache = claimsCache;
     }
 
     @Override
@@ -43,18 +46,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             final String jwt = authHeader.substring(7);
 
-            if (jwtUtil.validateToken(jwt)) {
-                Claims claims = jwtUtil.getClaims(jwt);
-                String username = claims.getSubject();
+            // ✅ Repeat requests of a session skip parsing and HMAC verification
+            JwtClaimsCache.VerifiedToken verified = claimsCache.get(jwt);
+            if (verified == null) {
+                verified = jwtUtil.verifyToken(jwt)
+                        .map(claims -> remember(jwt, claims))
+                        .orElse(null);
+            }
 
-                // ✅ Extract "authorities" from JWT and convert to GrantedAuthority list
-                List<String> roles = claims.get("authorities", List.class);
-                List<SimpleGrantedAuthority> authorities = roles.stream()
-                        .map(SimpleGrantedAuthority::new)
-                        .collect(Collectors.toList());
+            if (verified != null) {
+                List<SimpleGrantedAuthority> authorities = verified.getAuthorities();
 
                 // ✅ Build Spring Security UserDetails
-                User userDetails = new User(username, "", authorities);
+                User userDetails = new User(verified.getUsername(), "", authorities);
 
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(userDetails, null, authorities);
@@ -71,4 +75,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    private JwtClaimsCache.VerifiedToken remember(String jwt, Claims claims) {
+        // ✅ Extract "authorities" from JWT and convert to GrantedAuthority list
+        List<String> roles = claims.get("authorities", List.class);
+        List<SimpleGrantedAuthority> authorities = roles.stream()
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList());
+
+        return claimsCache.put(jwt, claims.getSubject(), authorities, claims.getExpiration());
+    }
 }
@@ -0,0 +1,96 @@
+package com.demo.eventwave.filter;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * One summary line per request (method, path, status, time) in place of the per-step
+ * lines controllers and services log, which production keeps at WARN. Failed (5xx) and
+ * slow requests are always logged; the rest are sampled at
+ * {@code eventwave.logging.request-summary.sample-rate}. A request whose handler throws is
+ * logged as 500, the status the container answers it with, since the response still
+ * says 200 when the exception passes through here.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestLoggingFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestLoggingFilter.class);
+
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+
+    public RequestLoggingFilter(@Value("${eventwave.logging.request-summary.sample-rate:1.0}") double sampleRate,
+                                @Value("${eventwave.logging.request-summary.slow-threshold:PT0.5S}") Duration slowThreshold) {
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!logger.isInfoEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long started = System.nanoTime();
+        boolean threw = true;
+        try {
+            filterChain.doFilter(request, response);
+            threw = false;
+        } finally {
+            if (threw) {
+                logger.info("{} {} -> 500 in {} ms (handler threw)", request.getMethod(), request.getRequestURI(),
+                        (System.nanoTime() - started) / 1_000_000);
+            } else if (request.isAsyncStarted()) {
+                // Queued registrations finish on another thread; log when the response does
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        summarize(request, response, started);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                summarize(request, response, started);
+            }
+        }
+    }
+
+    private void summarize(HttpServletRequest request, HttpServletResponse response, long started) {
+        long elapsed = System.nanoTime() - started;
+        int status = response.getStatus();
+        boolean alwaysLog = status >= 500 || elapsed >= slowThresholdNanos;
+        if (alwaysLog || sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            logger.info("{} {} -> {} in {} ms", request.getMethod(), request.getRequestURI(), status, elapsed / 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.demo.eventwave.loadtest;
+
+import com.demo.eventwave.entity.EventCategory;
+import com.demo.eventwave.entity.RegistrationStatus;
+import com.demo.eventwave.entity.Role;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Fills an empty database with a production-shaped dataset for load tests: organizers,
+ * events across every category (some already past, so they can be reviewed), attendees
+ * whose registrations and wishlists follow a Zipf popularity curve, and reviews.
+ *
+ * Everything goes in through batched JDBC inserts with ids assigned here, and the derived
+ * state the services normally maintain (seats_taken, event_review_stats) is written
+ * alongside; the search index picks the events up when it is rebuilt at startup. Only active with the {@code loadtest} profile; does nothing if
+ * the data is already there. Sizes come from {@code eventwave.loadtest.*}. On MySQL add
+ * {@code rewriteBatchedStatements=true} to the JDBC URL so batches become multi-row inserts.
+ *
+ * Organizers log in as {@code organizer<i>}, attendees as {@code attendee<i>}, all with
+ * the configured password.
+ */
+@Component
+@Profile("loadtest")
+public class SyntheticDataGenerator implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    // Vocabulary for titles and descriptions; the load harness searches with the same words
+    public static final String[] WORDS = {
+            "jazz", "rock", "summit", "startup", "marathon", "yoga", "wine", "tasting", "workshop",
+            "python", "design", "gallery", "festival", "cricket", "football", "street", "food",
+            "fashion", "runway", "trek", "sunrise", "meetup", "cloud", "kernel", "painting",
+            "pottery", "comedy", "theatre", "acoustic", "orchestra", "hackathon", "coffee"
+    };
+    public static final String[] CITIES = {"Bengaluru", "Mysuru", "Chennai", "Hyderabad", "Pune", "Mumbai", "Delhi", "Kochi"};
+
+    private static final double PAST_EVENT_SHARE = 0.2;
+    // Attendees rate generously: 1..5 stars
+    private static final double[] RATING_WEIGHTS = {0.05, 0.07, 0.18, 0.35, 0.35};
+
+    private final JdbcTemplate jdbc;
+    private final PasswordEncoder passwordEncoder;
+    private final int organizers;
+    private final int events;
+    private final int attendees;
+    private final int registrationsPerAttendee;
+    private final int wishlistPerAttendee;
+    private final double reviewProbability;
+    private final double popularitySkew;
+    private final String password;
+    private final long seed;
+    private final int batchSize;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbc,
+                                  PasswordEncoder passwordEncoder,
+                                  @Value("${eventwave.loadtest.organizers:50}") int organizers,
+                                  @Value("${eventwave.loadtest.events:5000}") int events,
+                                  @Value("${eventwave.loadtest.attendees:20000}") int attendees,
+                                  @Value("${eventwave.loadtest.registrations-per-attendee:8}") int registrationsPerAttendee,
+                                  @Value("${eventwave.loadtest.wishlist-per-attendee:5}") int wishlistPerAttendee,
+                                  @Value("${eventwave.loadtest.review-probability:0.4}") double reviewProbability,
+                                  @Value("${eventwave.loadtest.popularity-skew:1.1}") double popularitySkew,
+                                  @Value("${eventwave.loadtest.password:loadtest}") String password,
+                                  @Value("${eventwave.loadtest.seed:42}") long seed,
+                                  @Value("${eventwave.loadtest.batch-size:1000}") int batchSize) {
+        this.jdbc = jdbc;
+        this.passwordEncoder = passwordEncoder;
+        this.organizers = organizers;
+        this.events = events;
+        this.attendees = attendees;
+        this.registrationsPerAttendee = Math.min(registrationsPerAttendee, events);
+        this.wishlistPerAttendee = Math.min(wishlistPerAttendee, events);
+        this.reviewProbability = reviewProbability;
+        this.popularitySkew = popularitySkew;
+        this.password = password;
+        this.seed = seed;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer existing = jdbc.queryForObject("SELECT COUNT(*) FROM users WHERE user_name = 'organizer0'", Integer.class);
+        if (existing != null && existing > 0) {
+            logger.info("Synthetic data already present, skipping generation");
+            return;
+        }
+        generate();
+    }
+
+    public void generate() {
+        long started = System.nanoTime();
+        Random random = new Random(seed);
+        // One hash for everybody: hashing per user would dominate generation time
+        String passwordHash = passwordEncoder.encode(password);
+
+        long firstUserId = nextId("users", "user_id");
+        List<Object[]> users = new ArrayList<>(organizers + attendees);
+        for (int o = 0; o < organizers; o++) {
+            users.add(new Object[]{firstUserId + o, "organizer" + o, "organizer" + o + "@loadtest.local",
+                    passwordHash, Role.ORGANIZER.name()});
+        }
+        long firstAttendeeId = firstUserId + organizers;
+        for (int a = 0; a < attendees; a++) {
+            users.add(new Object[]{firstAttendeeId + a, "attendee" + a, "attendee" + a + "@loadtest.local",
+                    passwordHash, Role.USER.name()});
+        }
+        insert("INSERT INTO users (user_id, user_name, email, password, role) VALUES (?, ?, ?, ?, ?)", users);
+
+        long firstEventId = nextId("events", "event_id");
+        EventCategory[] categories = EventCategory.values();
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        int[] capacity = new int[events];
+        LocalDateTime[] dateTime = new LocalDateTime[events];
+        String[][] text = new String[events][];
+        for (int e = 0; e < events; e++) {
+            capacity[e] = 50 + random.nextInt(451);
+            dateTime[e] = random.nextDouble() < PAST_EVENT_SHARE
+                    ? now.minusHours(1 + random.nextInt(90 * 24))
+                    : now.plusHours(1 + random.nextInt(180 * 24));
+            text[e] = new String[]{words(random, 3), words(random, 20), CITIES[random.nextInt(CITIES.length)]};
+        }
+
+        // Popularity ranks are shuffled so the hot events are spread across ids and dates
+        int[] eventByRank = shuffledIndexes(events, random);
+        double[] popularity = zipfCumulative(events, popularitySkew);
+
+        int[] seatsTaken = new int[events];
+        long[] ratingSum = new long[events];
+        long[] ratingSumSquares = new long[events];
+        long[][] stars = new long[events][5];
+        List<Object[]> registrations = new ArrayList<>();
+        List<Object[]> reviews = new ArrayList<>();
+        List<Object[]> wishlists = new ArrayList<>();
+        for (int a = 0; a < attendees; a++) {
+            long userId = firstAttendeeId + a;
+            for (int e : pickDistinct(registrationsPerAttendee, eventByRank, popularity, random)) {
+                boolean confirmed = seatsTaken[e] < capacity[e];
+                if (confirmed) {
+                    seatsTaken[e]++;
+                }
+                registrations.add(new Object[]{userId, firstEventId + e,
+                        (confirmed ? RegistrationStatus.CONFIRMED : RegistrationStatus.WAITLISTED).name()});
+                if (confirmed && dateTime[e].isBefore(now) && random.nextDouble() < reviewProbability) {
+                    int rating = pickRating(random);
+                    reviews.add(new Object[]{firstEventId + e, userId, rating, words(random, 12),
+                            Timestamp.valueOf(dateTime[e].plusHours(1 + random.nextInt(72)))});
+                    ratingSum[e] += rating;
+                    ratingSumSquares[e] += (long) rating * rating;
+                    stars[e][rating - 1]++;
+                }
+            }
+            for (int e : pickDistinct(wishlistPerAttendee, eventByRank, popularity, random)) {
+                wishlists.add(new Object[]{userId, firstEventId + e, Timestamp.valueOf(now.minusMinutes(random.nextInt(60 * 24 * 30)))});
+            }
+        }
+
+        List<Object[]> eventRows = new ArrayList<>(events);
+        List<Object[]> statsRows = new ArrayList<>(events);
+        for (int e = 0; e < events; e++) {
+            long eventId = firstEventId + e;
+            long organizerId = firstUserId + random.nextInt(Math.max(organizers, 1));
+            eventRows.add(new Object[]{eventId, text[e][0], text[e][1], Timestamp.valueOf(dateTime[e]), text[e][2],
+                    capacity[e], seatsTaken[e], BigDecimal.valueOf(random.nextInt(200) * 50L),
+                    organizerId, categories[e % categories.length].name()});
+            // Every generated review carries a rating, so review_count == rating_count
+            long reviewCount = Arrays.stream(stars[e]).sum();
+            statsRows.add(new Object[]{eventId, reviewCount, reviewCount, ratingSum[e], ratingSumSquares[e],
+                    stars[e][0], stars[e][1], stars[e][2], stars[e][3], stars[e][4]});
+        }
+        insert("INSERT INTO events (event_id, title, description, date_time, location, capacity, seats_taken, " +
+                "price, organizer_id, category) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", eventRows);
+        insert("INSERT INTO registrations (user_id, event_id, status) VALUES (?, ?, ?)", registrations);
+        insert("INSERT INTO reviews (event_id, user_id, rating, feedback, created_at) VALUES (?, ?, ?, ?, ?)", reviews);
+        insert("INSERT INTO wishlists (user_id, event_id, created_at) VALUES (?, ?, ?)", wishlists);
+        insert("INSERT INTO event_review_stats (event_id, review_count, rating_count, rating_sum, rating_sum_squares, " +
+                "stars_1, stars_2, stars_3, stars_4, stars_5) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", statsRows);
+
+        logger.info("Generated {} organizers, {} attendees, {} events, {} registrations, {} reviews, {} wishlist entries in {} ms",
+                organizers, attendees, events, registrations.size(), reviews.size(), wishlists.size(),
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private void insert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            jdbc.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + batchSize)));
+        }
+    }
+
+    private long nextId(String table, String column) {
+        Long max = jdbc.queryForObject("SELECT MAX(" + column + ") FROM " + table, Long.class);
+        return max == null ? 1 : max + 1;
+    }
+
+    static double[] zipfCumulative(int n, double exponent) {
+        double[] cumulative = new double[n];
+        double total = 0;
+        for (int rank = 0; rank < n; rank++) {
+            total += 1.0 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = total;
+        }
+        for (int rank = 0; rank < n; rank++) {
+            cumulative[rank] /= total;
+        }
+        return cumulative;
+    }
+
+    // Distinct event indexes drawn by popularity rank
+    private static Set<Integer> pickDistinct(int count, int[] eventByRank, double[] cumulative, Random random) {
+        Set<Integer> picked = new HashSet<>();
+        while (picked.size() < count) {
+            int rank = Arrays.binarySearch(cumulative, random.nextDouble());
+            rank = rank >= 0 ? rank : Math.min(-rank - 1, cumulative.length - 1);
+            picked.add(eventByRank[rank]);
+        }
+        return picked;
+    }
+
+    private static int[] shuffledIndexes(int n, Random random) {
+        int[] indexes = new int[n];
+        for (int i = 0; i < n; i++) {
+            indexes[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = indexes[i];
+            indexes[i] = indexes[j];
+            indexes[j] = swap;
+        }
+        return indexes;
+    }
+
+    private static int pickRating(Random random) {
+        double roll = random.nextDouble();
+        for (int stars = 1; stars <= RATING_WEIGHTS.length; stars++) {
+            roll -= RATING_WEIGHTS[stars - 1];
+            if (roll < 0) {
+                return stars;
+            }
+        }
+        return RATING_WEIGHTS.length;
+    }
+
+    public static String words(Random random, int count) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+}
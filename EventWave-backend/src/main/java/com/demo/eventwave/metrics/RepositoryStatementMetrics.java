@@ -0,0 +1,84 @@
+package com.demo.eventwave.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts the SQL statements each repository call issues, including the ones Hibernate
+ * adds behind it (lazy loads, flushes), as {@code eventwave.repository.statements}
+ * tagged by repository and method. A rising count on one method is the N+1 signal that
+ * timings alone hide. Call timings come from Spring Data's own
+ * {@code spring.data.repository.invocations} timer.
+ *
+ * Installed as Hibernate's statement inspector by {@code MetricsConfig}; statements
+ * issued outside a repository call (e.g. at commit) are not attributed.
+ */
+@Aspect
+@Component
+public class RepositoryStatementMetrics implements StatementInspector {
+
+    private final MeterRegistry meterRegistry;
+    // Statements seen by the repository call in progress on this thread, null outside one
+    private final ThreadLocal<int[]> current = new ThreadLocal<>();
+    private final Map<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    public RepositoryStatementMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * org.springframework.data.repository.Repository+.*(..))")
+    public Object countStatements(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (current.get() != null) {
+            // Nested call: counted by the outer one
+            return joinPoint.proceed();
+        }
+        int[] statements = new int[1];
+        current.set(statements);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            current.remove();
+            summary(repositoryNames.computeIfAbsent(joinPoint.getThis().getClass(), type -> repositoryName(joinPoint.getThis())),
+                    joinPoint.getSignature().getName()).record(statements[0]);
+        }
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] statements = current.get();
+        if (statements != null) {
+            statements[0]++;
+        }
+        return sql;
+    }
+
+    private DistributionSummary summary(String repository, String method) {
+        return summaries.computeIfAbsent(repository + "." + method, key -> DistributionSummary
+                .builder("eventwave.repository.statements")
+                .description("SQL statements issued per repository call")
+                .tag("repository", repository)
+                .tag("method", method)
+                .register(meterRegistry));
+    }
+
+    // The application's repository interface, not the Spring Data base type declaring the method
+    private static String repositoryName(Object proxy) {
+        Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(proxy);
+        for (Class<?> type : interfaces) {
+            if (type.getPackageName().startsWith("com.demo.eventwave")) {
+                return type.getSimpleName();
+            }
+        }
+        return interfaces.length > 0 ? interfaces[0].getSimpleName() : proxy.getClass().getSimpleName();
+    }
+}
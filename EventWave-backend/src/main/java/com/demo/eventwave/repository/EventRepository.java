@@ -3,31 +3,108 @@ package com.demo.eventwave.repository;
 import com.demo.eventwave.entity.Event;
 import com.demo.eventwave.entity.EventCategory;
 import com.demo.eventwave.entity.User;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
 
+    // Every listing fetch-joins the organizer: the DTO mappers read its id and name,
+    // and a lazy proxy would cost one extra SELECT per event.
+
+    @Override
+    @EntityGraph(attributePaths = "organizer")
+    List<Event> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = "organizer")
+    List<Event> findAllById(Iterable<Long> ids);
+
     // Search methods
+    @EntityGraph(attributePaths = "organizer")
     List<Event> findByTitleContainingIgnoreCase(String title);
+    @EntityGraph(attributePaths = "organizer")
     List<Event> findByDescriptionContainingIgnoreCase(String description);
 
     // Filter methods
+    @EntityGraph(attributePaths = "organizer")
     List<Event> findByLocationContainingIgnoreCase(String location);
+    @EntityGraph(attributePaths = "organizer")
     List<Event> findByDateTimeBetween(LocalDateTime start, LocalDateTime end);
 
 
 
     // Organizer-related
+    @EntityGraph(attributePaths = "organizer")
     List<Event> findByOrganizer(User organizer);
     long countByOrganizer(User organizer);
 
+    // Organizer dashboard in one statement: each row is {Event, EventReviewStats or null}
+    @Query("SELECT e, s FROM Event e JOIN FETCH e.organizer o " +
+            "LEFT JOIN EventReviewStats s ON s.eventId = e.eventId " +
+            "WHERE o.userId = :organizerId")
+    List<Object[]> findByOrganizerWithReviewStats(@Param("organizerId") Long organizerId);
+
+    @EntityGraph(attributePaths = "organizer")
     List<Event> findByCategory(EventCategory category);
 
+    // Keyset (seek) pagination ordered by (date_time, event_id); null filters are ignored
+    @EntityGraph(attributePaths = "organizer")
+    @Query("SELECT e FROM Event e " +
+            "WHERE (:category IS NULL OR e.category = :category) " +
+            "AND (:location IS NULL OR LOWER(e.location) LIKE LOWER(CONCAT('%', :location, '%'))) " +
+            "AND (:start IS NULL OR e.dateTime >= :start) " +
+            "AND (:end IS NULL OR e.dateTime <= :end) " +
+            "AND (:afterDateTime IS NULL OR e.dateTime > :afterDateTime " +
+            "     OR (e.dateTime = :afterDateTime AND e.eventId > :afterId)) " +
+            "ORDER BY e.dateTime ASC, e.eventId ASC")
+    List<Event> findPageAfter(@Param("category") EventCategory category,
+                              @Param("location") String location,
+                              @Param("start") LocalDateTime start,
+                              @Param("end") LocalDateTime end,
+                              @Param("afterDateTime") LocalDateTime afterDateTime,
+                              @Param("afterId") Long afterId,
+                              Limit limit);
+
+    // Series occurrences
+    Optional<Event> findBySeriesIdAndDateTime(Long seriesId, LocalDateTime dateTime);
+
+    // Occurrences of these series that already have a row, as {seriesId, dateTime}
+    @Query("SELECT e.seriesId, e.dateTime FROM Event e " +
+            "WHERE e.seriesId IN :seriesIds AND e.dateTime >= :from AND e.dateTime <= :to")
+    List<Object[]> findMaterializedOccurrences(@Param("seriesIds") Collection<Long> seriesIds,
+                                               @Param("from") LocalDateTime from,
+                                               @Param("to") LocalDateTime to);
+
+    // Atomically claims a seat; returns 0 when the event is already full
+    @Modifying
+    @Query("UPDATE Event e SET e.seatsTaken = e.seatsTaken + 1 " +
+            "WHERE e.eventId = :eventId AND e.seatsTaken < e.capacity")
+    int reserveSeat(@Param("eventId") Long eventId);
+
+    // Claims `count` seats at once, or none if fewer remain
+    @Modifying
+    @Query("UPDATE Event e SET e.seatsTaken = e.seatsTaken + :count " +
+            "WHERE e.eventId = :eventId AND e.seatsTaken + :count <= e.capacity")
+    int reserveSeats(@Param("eventId") Long eventId, @Param("count") int count);
+
+    // Sets a new capacity unless it is below the seats already taken; returns 0 then
+    @Modifying
+    @Query("UPDATE Event e SET e.capacity = :capacity WHERE e.eventId = :eventId AND e.seatsTaken <= :capacity")
+    int updateCapacity(@Param("eventId") Long eventId, @Param("capacity") int capacity);
 
-}
\ No newline at end of file
+    @Modifying
+    @Query("UPDATE Event e SET e.seatsTaken = e.seatsTaken - 1 " +
+            "WHERE e.eventId = :eventId AND e.seatsTaken > 0")
+    int releaseSeat(@Param("eventId") Long eventId);
+}
@@ -0,0 +1,26 @@
+package com.demo.eventwave.repository;
+
+import com.demo.eventwave.entity.EventReviewStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface EventReviewStatsRepository extends JpaRepository<EventReviewStats, Long> {
+
+    // Adds one review in a single UPDATE, so concurrent reviews never lose an increment.
+    // A rating outside 1-5 (e.g. 0) counts the review without rating it.
+    // Returns 0 when the event has no stats row yet.
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE EventReviewStats s SET s.reviewCount = s.reviewCount + 1, " +
+            "s.ratingCount = s.ratingCount + (CASE WHEN :rating BETWEEN 1 AND 5 THEN 1 ELSE 0 END), " +
+            "s.ratingSum = s.ratingSum + (CASE WHEN :rating BETWEEN 1 AND 5 THEN :rating ELSE 0 END), " +
+            "s.ratingSumSquares = s.ratingSumSquares + (CASE WHEN :rating BETWEEN 1 AND 5 THEN :rating * :rating ELSE 0 END), " +
+            "s.stars1 = s.stars1 + (CASE WHEN :rating = 1 THEN 1 ELSE 0 END), " +
+            "s.stars2 = s.stars2 + (CASE WHEN :rating = 2 THEN 1 ELSE 0 END), " +
+            "s.stars3 = s.stars3 + (CASE WHEN :rating = 3 THEN 1 ELSE 0 END), " +
+            "s.stars4 = s.stars4 + (CASE WHEN :rating = 4 THEN 1 ELSE 0 END), " +
+            "s.stars5 = s.stars5 + (CASE WHEN :rating = 5 THEN 1 ELSE 0 END) " +
+            "WHERE s.eventId = :eventId")
+    int recordReview(@Param("eventId") Long eventId, @Param("rating") int rating);
+}
@@ -0,0 +1,29 @@
+package com.demo.eventwave.repository;
+
+import com.demo.eventwave.entity.EventCategory;
+import com.demo.eventwave.entity.EventSeries;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface EventSeriesRepository extends JpaRepository<EventSeries, Long> {
+
+    // Series with occurrences left in [from, to]; a null to leaves the window open-ended, null filters are ignored
+    @EntityGraph(attributePaths = "organizer")
+    @Query("SELECT s FROM EventSeries s " +
+            "WHERE s.repeatUntil >= :from " +
+            "AND (:to IS NULL OR s.firstStart <= :to) " +
+            "AND (:category IS NULL OR s.category = :category) " +
+            "AND (:location IS NULL OR LOWER(s.location) LIKE LOWER(CONCAT('%', :location, '%'))) " +
+            "ORDER BY s.seriesId ASC")
+    List<EventSeries> findRunningBetween(@Param("category") EventCategory category,
+                                         @Param("location") String location,
+                                         @Param("from") LocalDateTime from,
+                                         @Param("to") LocalDateTime to);
+}
@@ -1,11 +1,21 @@
 package com.demo.eventwave.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import com.demo.eventwave.dto.AttendeeDTO;
+import com.demo.eventwave.dto.RegisteredEventDTO;
 import com.demo.eventwave.entity.RegistrationStatus;
 import com.demo.eventwave.entity.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -17,11 +27,60 @@ public interface RegistrationRepository extends JpaRepository<Registration, Long
     Optional<Registration> findByUserAndEvent(User user, Event event);
     Optional<Registration> findByUser_UserIdAndEvent_EventId(Long userId, Long eventId);
     List<Registration> findByEvent(Event event);
+    @EntityGraph(attributePaths = "user")
+    List<Registration> findByEventAndStatus(Event event, RegistrationStatus status);
+    @EntityGraph(attributePaths = "user")
+    List<Registration> findByEventAndStatusOrderByRegistrationIdAsc(Event event, RegistrationStatus status);
     long countByEvent(Event event);
+    long countByEventAndStatus(Event event, RegistrationStatus status);
     List<Registration> findByUser(User user);
 
+    // A user's registrations with their events, organizer name and wishlist flag in one query, soonest first.
+    // Null bounds leave that side open: from = now for upcoming events, before = now for past ones.
+    @Query("SELECT new com.demo.eventwave.dto.RegisteredEventDTO(e.eventId, e.title, e.description, e.dateTime, " +
+            "e.location, e.capacity, e.price, o.userId, o.userName, e.category, e.imageUrl, r.registrationId, r.status, " +
+            "CASE WHEN EXISTS (SELECT 1 FROM Wishlist w WHERE w.user.userId = u.userId AND w.event.eventId = e.eventId) " +
+            "THEN true ELSE false END) " +
+            "FROM Registration r JOIN r.user u JOIN r.event e JOIN e.organizer o " +
+            "WHERE u.userName = :userName " +
+            "AND (:from IS NULL OR e.dateTime >= :from) " +
+            "AND (:before IS NULL OR e.dateTime < :before) " +
+            "ORDER BY e.dateTime ASC, e.eventId ASC")
+    List<RegisteredEventDTO> findRegisteredEvents(@Param("userName") String userName,
+                                                  @Param("from") LocalDateTime from,
+                                                  @Param("before") LocalDateTime before);
+
 
     boolean existsByUserAndEventAndStatus(User user, Event event, RegistrationStatus status);
+
+    // Registration-ordered keyset page of an event's registrations with a given status, projected with the
+    // user's name and email in the same query (served by idx_registrations_event_status); null afterId starts at the first
+    @Query("SELECT new com.demo.eventwave.dto.AttendeeDTO(r.registrationId, u.userId, u.userName, u.email) " +
+            "FROM Registration r JOIN r.user u " +
+            "WHERE r.event.eventId = :eventId AND r.status = :status " +
+            "AND (:afterId IS NULL OR r.registrationId > :afterId) " +
+            "ORDER BY r.registrationId ASC")
+    List<AttendeeDTO> findAttendeePageAfter(@Param("eventId") Long eventId,
+                                            @Param("status") RegistrationStatus status,
+                                            @Param("afterId") Long afterId,
+                                            Limit limit);
+
+    // (userId, status) of the given users' registrations for the event; see findRegistrationStatuses
+    @Query("SELECT r.user.userId, r.status FROM Registration r WHERE r.event.eventId = :eventId AND r.user.userId IN :userIds")
+    List<Object[]> findRegistrationStatusRows(@Param("eventId") Long eventId, @Param("userIds") Collection<Long> userIds);
+
+    // Registration status of each of the given users who already registered for the event, keyed by user ID
+    default Map<Long, RegistrationStatus> findRegistrationStatuses(Long eventId, Collection<Long> userIds) {
+        Map<Long, RegistrationStatus> statuses = new HashMap<>();
+        for (Object[] row : findRegistrationStatusRows(eventId, userIds)) {
+            statuses.put((Long) row[0], (RegistrationStatus) row[1]);
+        }
+        return statuses;
+    }
+
+    // Head of the waitlist, locked so concurrent cancellations cannot promote the same registration
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Registration> findFirstByEvent_EventIdAndStatusOrderByRegistrationIdAsc(Long eventId, RegistrationStatus status);
     
     
 }
\ No newline at end of file
@@ -1,10 +1,15 @@
 package com.demo.eventwave.repository;
 
+import com.demo.eventwave.dto.ReviewDTO;
 import com.demo.eventwave.entity.Event;
 import com.demo.eventwave.entity.Review;
 import com.demo.eventwave.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
@@ -12,9 +17,28 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     // Find all reviews for a specific event
     List<Review> findByEvent_EventId(Long eventId);
 
+    // Newest-first keyset page projected straight into DTOs, reviewer name included in the same query.
+    // Feedback text is only read when the caller may see it; a null cursor starts from the newest review.
+    @Query("SELECT new com.demo.eventwave.dto.ReviewDTO(r.reviewId, r.event.eventId, u.userId, u.userName, r.rating, " +
+            "CASE WHEN :includeFeedback = true THEN r.feedback ELSE NULL END, r.createdAt) " +
+            "FROM Review r JOIN r.user u " +
+            "WHERE r.event.eventId = :eventId " +
+            "AND (:beforeCreatedAt IS NULL OR r.createdAt < :beforeCreatedAt " +
+            "     OR (r.createdAt = :beforeCreatedAt AND r.reviewId < :beforeId)) " +
+            "ORDER BY r.createdAt DESC, r.reviewId DESC")
+    List<ReviewDTO> findPageBefore(@Param("eventId") Long eventId,
+                                   @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+                                   @Param("beforeId") Long beforeId,
+                                   @Param("includeFeedback") boolean includeFeedback,
+                                   Limit limit);
+
     // Count reviews for an event
     Integer countByEvent_EventId(Long eventId);
 
+    // Rating distribution of an event: rows of {rating or null, count}
+    @Query("SELECT r.rating, COUNT(r) FROM Review r WHERE r.event.eventId = :eventId GROUP BY r.rating")
+    List<Object[]> countByRating(@Param("eventId") Long eventId);
+
     // Check if a user has reviewed an event
     boolean existsByEventAndUser(Event event, User user);
 
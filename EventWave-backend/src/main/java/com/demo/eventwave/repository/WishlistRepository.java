@@ -4,9 +4,12 @@ import com.demo.eventwave.entity.Event;
 import com.demo.eventwave.entity.User;
 import com.demo.eventwave.entity.Wishlist;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Set;
 
 @Repository
 public interface WishlistRepository extends JpaRepository<Wishlist, Long> {
@@ -14,4 +17,8 @@ public interface WishlistRepository extends JpaRepository<Wishlist, Long> {
     boolean existsByUserUserIdAndEventEventId(Long userId, Long eventId);
     void deleteByUserUserIdAndEventEventId(Long userId, Long eventId);
     boolean existsByUserAndEvent(User user, Event event);
+
+    // All wishlisted event IDs for a user in one query (used to mark listings in memory)
+    @Query("SELECT w.event.eventId FROM Wishlist w WHERE w.user.userId = :userId")
+    Set<Long> findEventIdsByUserId(@Param("userId") Long userId);
 }
\ No newline at end of file
@@ -0,0 +1,371 @@
+package com.demo.eventwave.search;
+
+import com.demo.eventwave.entity.Event;
+import com.demo.eventwave.entity.EventCategory;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory spatial index over event coordinates, for "near me" and map-viewport queries.
+ * Events are bucketed into a grid of fixed {@value #CELL_DEGREES}-degree cells (about
+ * 5.5 km north-south, the bucketing a 5-character geohash gives), so a query only visits
+ * the cells overlapping its bounding box and its cost follows the number of events
+ * nearby, not the catalog size. Category and date filters are checked inline while
+ * scanning a cell.
+ *
+ * Each cell stores its events column-wise, with the coordinates also kept as unit
+ * vectors: the radius test is then one dot product against cos(radius / R), exact on
+ * the sphere, and the haversine distance is only computed for the events returned.
+ * Events without coordinates are not indexed.
+ */
+@Component
+public class EventGeoIndex {
+
+    static final double CELL_DEGREES = 0.05;
+    private static final int ROWS = (int) Math.ceil(180 / CELL_DEGREES) + 1;
+    private static final int COLUMNS = (int) Math.round(360 / CELL_DEGREES);
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+
+    private final Map<Long, Cell> cells = new HashMap<>();
+    // eventId -> key of the cell holding it, used to unlink on update/delete
+    private final Map<Long, Long> cellByEvent = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public record Hit(long eventId, double distanceKm) {
+    }
+
+    // Null when the pair can be stored: both or neither set, and within range
+    public static String coordinateError(Double latitude, Double longitude) {
+        if (latitude == null && longitude == null) {
+            return null;
+        }
+        if (latitude == null || longitude == null) {
+            return "Latitude and longitude go together";
+        }
+        if (!(latitude >= -90 && latitude <= 90) || !(longitude >= -180 && longitude <= 180)) {
+            return "Latitude must be within [-90, 90] and longitude within [-180, 180]";
+        }
+        return null;
+    }
+
+    public void index(Event event) {
+        index(event.getEventId(), event.getLatitude(), event.getLongitude(), event.getCategory(), event.getDateTime());
+    }
+
+    public void index(Long eventId, Double latitude, Double longitude, EventCategory category, LocalDateTime dateTime) {
+        lock.writeLock().lock();
+        try {
+            unlink(eventId);
+            if (latitude == null || longitude == null) {
+                return;
+            }
+            long key = cellKey(row(latitude), column(longitude));
+            cells.computeIfAbsent(key, k -> new Cell()).add(eventId, latitude, longitude,
+                    category != null ? category.ordinal() : -1, epochSecond(dateTime));
+            cellByEvent.put(eventId, key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long eventId) {
+        lock.writeLock().lock();
+        try {
+            unlink(eventId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            cells.clear();
+            cellByEvent.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return cellByEvent.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Up to {@code limit} events within {@code radiusKm} of the point, nearest first; ties go
+     * to the lower event ID. Null filters are ignored; start and end are inclusive.
+     */
+    public List<Hit> withinRadius(double latitude, double longitude, double radiusKm,
+                                  EventCategory category, LocalDateTime start, LocalDateTime end, int limit) {
+        if (limit <= 0 || radiusKm <= 0) {
+            return List.of();
+        }
+        double[] center = unitVector(latitude, longitude);
+        double minDot = Math.cos(Math.min(radiusKm / EARTH_RADIUS_KM, Math.PI));
+        Filter filter = new Filter(category, start, end);
+
+        double radiusDegrees = radiusKm / KM_PER_DEGREE;
+        int firstRow = row(Math.max(-90, latitude - radiusDegrees));
+        int lastRow = row(Math.min(90, latitude + radiusDegrees));
+        // Longitude degrees shrink towards the poles: widen by the cosine of the farthest latitude
+        double farthest = Math.min(90, Math.abs(latitude) + radiusDegrees);
+        double cosFarthest = Math.cos(Math.toRadians(farthest));
+        int firstColumn;
+        int lastColumn;
+        if (farthest >= 90 || radiusDegrees / cosFarthest >= 180) {
+            firstColumn = 0;
+            lastColumn = COLUMNS - 1;
+        } else {
+            double longitudeDegrees = radiusDegrees / cosFarthest;
+            firstColumn = columnUnwrapped(longitude - longitudeDegrees);
+            lastColumn = Math.min(columnUnwrapped(longitude + longitudeDegrees), firstColumn + COLUMNS - 1);
+        }
+
+        // Worst hit at the head: highest event ID among the lowest dot products
+        PriorityQueue<long[]> top = new PriorityQueue<>(limit + 1, Comparator
+                .<long[]>comparingDouble(hit -> Double.longBitsToDouble(hit[1]))
+                .thenComparing(Comparator.<long[]>comparingLong(hit -> hit[0]).reversed()));
+
+        lock.readLock().lock();
+        try {
+            for (int row = firstRow; row <= lastRow; row++) {
+                for (int column = firstColumn; column <= lastColumn; column++) {
+                    Cell cell = cells.get(cellKey(row, Math.floorMod(column, COLUMNS)));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (int i = 0; i < cell.size; i++) {
+                        double dot = cell.x[i] * center[0] + cell.y[i] * center[1] + cell.z[i] * center[2];
+                        if (dot < minDot || !filter.accepts(cell, i)) {
+                            continue;
+                        }
+                        if (top.size() == limit) {
+                            long[] worst = top.peek();
+                            double worstDot = Double.longBitsToDouble(worst[1]);
+                            if (dot < worstDot || (dot == worstDot && cell.ids[i] > worst[0])) {
+                                continue;
+                            }
+                            top.poll();
+                        }
+                        top.offer(new long[]{cell.ids[i], Double.doubleToLongBits(dot)});
+                    }
+                }
+            }
+            List<Hit> hits = new ArrayList<>(top.size());
+            for (long[] hit : top) {
+                Cell cell = cells.get(cellByEvent.get(hit[0]));
+                int i = cell.indexOf(hit[0]);
+                hits.add(new Hit(hit[0], haversineKm(latitude, longitude, cell.latitudes[i], cell.longitudes[i])));
+            }
+            hits.sort(Comparator.comparingDouble(Hit::distanceKm).thenComparingLong(Hit::eventId));
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Up to {@code limit} event IDs inside the box, soonest first (then by event ID). A box whose
+     * minLongitude is greater than its maxLongitude crosses the antimeridian.
+     */
+    public List<Long> withinBox(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude,
+                                EventCategory category, LocalDateTime start, LocalDateTime end, int limit) {
+        if (limit <= 0 || minLatitude > maxLatitude) {
+            return List.of();
+        }
+        boolean wraps = minLongitude > maxLongitude;
+        Filter filter = new Filter(category, start, end);
+        int firstRow = row(minLatitude);
+        int lastRow = row(maxLatitude);
+        int firstColumn = column(minLongitude);
+        int lastColumn = column(maxLongitude) + (wraps ? COLUMNS : 0);
+
+        // Latest hit at the head
+        PriorityQueue<long[]> top = new PriorityQueue<>(limit + 1, Comparator
+                .<long[]>comparingLong(hit -> hit[1]).thenComparingLong(hit -> hit[0]).reversed());
+
+        lock.readLock().lock();
+        try {
+            for (int row = firstRow; row <= lastRow; row++) {
+                for (int column = firstColumn; column <= lastColumn; column++) {
+                    Cell cell = cells.get(cellKey(row, Math.floorMod(column, COLUMNS)));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (int i = 0; i < cell.size; i++) {
+                        double latitude = cell.latitudes[i];
+                        double longitude = cell.longitudes[i];
+                        boolean inLongitude = wraps
+                                ? longitude >= minLongitude || longitude <= maxLongitude
+                                : longitude >= minLongitude && longitude <= maxLongitude;
+                        if (latitude < minLatitude || latitude > maxLatitude || !inLongitude || !filter.accepts(cell, i)) {
+                            continue;
+                        }
+                        long time = cell.times[i];
+                        if (top.size() == limit) {
+                            long[] worst = top.peek();
+                            if (time > worst[1] || (time == worst[1] && cell.ids[i] > worst[0])) {
+                                continue;
+                            }
+                            top.poll();
+                        }
+                        top.offer(new long[]{cell.ids[i], time});
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<long[]> sorted = new ArrayList<>(top);
+        sorted.sort(Comparator.<long[]>comparingLong(hit -> hit[1]).thenComparingLong(hit -> hit[0]));
+        List<Long> ids = new ArrayList<>(sorted.size());
+        sorted.forEach(hit -> ids.add(hit[0]));
+        return ids;
+    }
+
+    static double haversineKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double dLatitude = Math.toRadians(latitude2 - latitude1);
+        double dLongitude = Math.toRadians(longitude2 - longitude1);
+        double a = Math.sin(dLatitude / 2) * Math.sin(dLatitude / 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.sin(dLongitude / 2) * Math.sin(dLongitude / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private static double[] unitVector(double latitude, double longitude) {
+        double phi = Math.toRadians(latitude);
+        double lambda = Math.toRadians(longitude);
+        return new double[]{Math.cos(phi) * Math.cos(lambda), Math.cos(phi) * Math.sin(lambda), Math.sin(phi)};
+    }
+
+    // Only compared with each other, so any fixed offset will do
+    private static long epochSecond(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toEpochSecond(ZoneOffset.UTC) : Long.MIN_VALUE;
+    }
+
+    private static int row(double latitude) {
+        return (int) Math.floor((latitude + 90) / CELL_DEGREES);
+    }
+
+    private static int column(double longitude) {
+        return Math.floorMod(columnUnwrapped(longitude), COLUMNS);
+    }
+
+    private static int columnUnwrapped(double longitude) {
+        return (int) Math.floor((longitude + 180) / CELL_DEGREES);
+    }
+
+    private static long cellKey(int row, int column) {
+        return (long) row * COLUMNS + column;
+    }
+
+    private void unlink(Long eventId) {
+        Long key = cellByEvent.remove(eventId);
+        if (key == null) {
+            return;
+        }
+        Cell cell = cells.get(key);
+        if (cell != null && cell.remove(eventId)) {
+            cells.remove(key);
+        }
+    }
+
+    private static final class Filter {
+
+        private final int category;
+        private final long from;
+        private final long to;
+
+        Filter(EventCategory category, LocalDateTime start, LocalDateTime end) {
+            this.category = category != null ? category.ordinal() : -1;
+            this.from = start != null ? epochSecond(start) : Long.MIN_VALUE;
+            this.to = end != null ? epochSecond(end) : Long.MAX_VALUE;
+        }
+
+        boolean accepts(Cell cell, int i) {
+            return (category < 0 || cell.categories[i] == category) && cell.times[i] >= from && cell.times[i] <= to;
+        }
+    }
+
+    // Parallel arrays, so a scan walks memory sequentially instead of chasing one object per event
+    private static final class Cell {
+
+        private int size;
+        private long[] ids = new long[4];
+        private double[] latitudes = new double[4];
+        private double[] longitudes = new double[4];
+        private double[] x = new double[4];
+        private double[] y = new double[4];
+        private double[] z = new double[4];
+        private int[] categories = new int[4];
+        private long[] times = new long[4];
+
+        void add(long eventId, double latitude, double longitude, int category, long time) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                latitudes = Arrays.copyOf(latitudes, capacity);
+                longitudes = Arrays.copyOf(longitudes, capacity);
+                x = Arrays.copyOf(x, capacity);
+                y = Arrays.copyOf(y, capacity);
+                z = Arrays.copyOf(z, capacity);
+                categories = Arrays.copyOf(categories, capacity);
+                times = Arrays.copyOf(times, capacity);
+            }
+            double[] vector = unitVector(latitude, longitude);
+            ids[size] = eventId;
+            latitudes[size] = latitude;
+            longitudes[size] = longitude;
+            x[size] = vector[0];
+            y[size] = vector[1];
+            z[size] = vector[2];
+            categories[size] = category;
+            times[size] = time;
+            size++;
+        }
+
+        int indexOf(long eventId) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == eventId) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        // Moves the last event into the freed slot; returns true when the cell is now empty
+        boolean remove(long eventId) {
+            int i = indexOf(eventId);
+            if (i >= 0) {
+                int last = --size;
+                ids[i] = ids[last];
+                latitudes[i] = latitudes[last];
+                longitudes[i] = longitudes[last];
+                x[i] = x[last];
+                y[i] = y[last];
+                z[i] = z[last];
+                categories[i] = categories[last];
+                times[i] = times[last];
+            }
+            return size == 0;
+        }
+    }
+}
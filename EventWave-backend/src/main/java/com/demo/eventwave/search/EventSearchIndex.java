@@ -0,0 +1,313 @@
+package com.demo.eventwave.search;
+
+import com.demo.eventwave.entity.Event;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over event title, description and location.
+ * Terms are kept sorted so every query token also matches as a prefix
+ * (search-as-you-type), and all tokens of a query must match (AND).
+ * Postings are bucketed by weight so single-token queries can stop as soon
+ * as the best {@code limit} events have been found.
+ */
+@Component
+public class EventSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int LOCATION_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int MAX_WEIGHT = TITLE_WEIGHT + LOCATION_WEIGHT + DESCRIPTION_WEIGHT;
+    private static final int EXACT_MATCH_BONUS = 2;
+
+    private final NavigableMap<String, TermPostings> postings = new TreeMap<>();
+    // eventId -> (term -> weight), used to unlink on update/delete and to score multi-token queries
+    private final Map<Long, Map<String, Integer>> termsByEvent = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void index(Event event) {
+        index(event.getEventId(), event.getTitle(), event.getDescription(), event.getLocation());
+    }
+
+    public void index(Long eventId, String title, String description, String location) {
+        Map<String, Integer> weights = new HashMap<>();
+        addTerms(weights, title, TITLE_WEIGHT);
+        addTerms(weights, location, LOCATION_WEIGHT);
+        addTerms(weights, description, DESCRIPTION_WEIGHT);
+
+        lock.writeLock().lock();
+        try {
+            unlink(eventId);
+            weights.forEach((term, weight) ->
+                    postings.computeIfAbsent(term, t -> new TermPostings()).add(eventId, weight));
+            termsByEvent.put(eventId, weights);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long eventId) {
+        lock.writeLock().lock();
+        try {
+            unlink(eventId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            termsByEvent.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return termsByEvent.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} matching event IDs, best match first; ties go to the lower event ID.
+     */
+    public List<Long> search(String query, int limit) {
+        List<String> tokens = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (tokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            return tokens.size() == 1 ? searchSingle(tokens.get(0), limit) : searchAll(tokens, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Walks postings from the highest score down and stops once `limit` events are collected
+    private List<Long> searchSingle(String token, int limit) {
+        Map<Integer, List<NavigableSet<Long>>> byScore = new TreeMap<>(Comparator.reverseOrder());
+        for (Map.Entry<String, TermPostings> entry : prefixRange(token).entrySet()) {
+            int bonus = entry.getKey().equals(token) ? EXACT_MATCH_BONUS : 1;
+            NavigableSet<Long>[] buckets = entry.getValue().byWeight;
+            for (int weight = MAX_WEIGHT; weight > 0; weight--) {
+                if (buckets[weight] != null) {
+                    byScore.computeIfAbsent(weight * bonus, s -> new ArrayList<>()).add(buckets[weight]);
+                }
+            }
+        }
+
+        List<Long> result = new ArrayList<>(limit);
+        Set<Long> emitted = new HashSet<>();
+        for (List<NavigableSet<Long>> sameScore : byScore.values()) {
+            // k-way merge keeps equally scored events in ascending ID order
+            PriorityQueue<PeekingIterator> merge = new PriorityQueue<>(Comparator.comparing(PeekingIterator::peek));
+            for (NavigableSet<Long> bucket : sameScore) {
+                merge.add(new PeekingIterator(bucket.iterator()));
+            }
+            while (!merge.isEmpty()) {
+                PeekingIterator head = merge.poll();
+                Long eventId = head.next();
+                if (head.hasNext()) {
+                    merge.add(head);
+                }
+                // An event already emitted under a higher score is skipped here
+                if (emitted.add(eventId)) {
+                    result.add(eventId);
+                    if (result.size() == limit) {
+                        return result;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    // Drives the AND from the rarest token and scores candidates against the other tokens
+    private List<Long> searchAll(List<String> tokens, int limit) {
+        NavigableMap<String, TermPostings> driver = null;
+        long driverSize = Long.MAX_VALUE;
+        for (String token : tokens) {
+            NavigableMap<String, TermPostings> range = prefixRange(token);
+            long size = 0;
+            for (TermPostings termPostings : range.values()) {
+                size += termPostings.size;
+            }
+            if (size == 0) {
+                return List.of();
+            }
+            if (size < driverSize) {
+                driver = range;
+                driverSize = size;
+            }
+        }
+
+        Comparator<long[]> ranking = Comparator.<long[]>comparingLong(hit -> hit[1])
+                .thenComparing(Comparator.<long[]>comparingLong(hit -> hit[0]).reversed());
+        PriorityQueue<long[]> top = new PriorityQueue<>(limit + 1, ranking);
+        Set<Long> visited = new HashSet<>();
+        for (TermPostings termPostings : driver.values()) {
+            for (NavigableSet<Long> bucket : termPostings.byWeight) {
+                if (bucket == null) {
+                    continue;
+                }
+                for (Long eventId : bucket) {
+                    if (!visited.add(eventId)) {
+                        continue;
+                    }
+                    long score = score(termsByEvent.get(eventId), tokens);
+                    if (score > 0) {
+                        top.offer(new long[]{eventId, score});
+                        if (top.size() > limit) {
+                            top.poll();
+                        }
+                    }
+                }
+            }
+        }
+
+        List<Long> result = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            result.add(top.poll()[0]);
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    // Sum over tokens of the best matching term's weight; 0 if any token does not match
+    private static long score(Map<String, Integer> eventTerms, List<String> tokens) {
+        long total = 0;
+        for (String token : tokens) {
+            int best = 0;
+            for (Map.Entry<String, Integer> term : eventTerms.entrySet()) {
+                if (term.getKey().startsWith(token)) {
+                    int bonus = term.getKey().length() == token.length() ? EXACT_MATCH_BONUS : 1;
+                    best = Math.max(best, term.getValue() * bonus);
+                }
+            }
+            if (best == 0) {
+                return 0;
+            }
+            total += best;
+        }
+        return total;
+    }
+
+    private NavigableMap<String, TermPostings> prefixRange(String token) {
+        return postings.subMap(token, true, token + Character.MAX_VALUE, false);
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase());
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addTerms(Map<String, Integer> weights, String text, int weight) {
+        for (String term : new LinkedHashSet<>(tokenize(text))) {
+            weights.merge(term, weight, Integer::sum);
+        }
+    }
+
+    private void unlink(Long eventId) {
+        Map<String, Integer> terms = termsByEvent.remove(eventId);
+        if (terms == null) {
+            return;
+        }
+        terms.forEach((term, weight) -> {
+            TermPostings termPostings = postings.get(term);
+            if (termPostings != null && termPostings.remove(eventId, weight)) {
+                postings.remove(term);
+            }
+        });
+    }
+
+    private static final class TermPostings {
+
+        @SuppressWarnings("unchecked")
+        private final NavigableSet<Long>[] byWeight = new NavigableSet[MAX_WEIGHT + 1];
+        private int size;
+
+        void add(Long eventId, int weight) {
+            if (byWeight[weight] == null) {
+                byWeight[weight] = new TreeSet<>();
+            }
+            if (byWeight[weight].add(eventId)) {
+                size++;
+            }
+        }
+
+        // Returns true when the term no longer has any events
+        boolean remove(Long eventId, int weight) {
+            NavigableSet<Long> bucket = byWeight[weight];
+            if (bucket != null && bucket.remove(eventId)) {
+                size--;
+                if (bucket.isEmpty()) {
+                    byWeight[weight] = null;
+                }
+            }
+            return size == 0;
+        }
+    }
+
+    private static final class PeekingIterator {
+
+        private final Iterator<Long> delegate;
+        private Long next;
+
+        PeekingIterator(Iterator<Long> delegate) {
+            this.delegate = delegate;
+            this.next = delegate.next();
+        }
+
+        Long peek() {
+            return next;
+        }
+
+        boolean hasNext() {
+            return next != null;
+        }
+
+        Long next() {
+            Long current = next;
+            next = delegate.hasNext() ? delegate.next() : null;
+            return current;
+        }
+    }
+}
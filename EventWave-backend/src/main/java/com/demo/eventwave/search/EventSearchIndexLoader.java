@@ -0,0 +1,58 @@
+package com.demo.eventwave.search;
+
+import com.demo.eventwave.entity.Event;
+import com.demo.eventwave.repository.EventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Rebuilds the search and geo indexes from the events table once the application is up.
+ */
+@Component
+public class EventSearchIndexLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventSearchIndexLoader.class);
+    private static final int BATCH_SIZE = 5000;
+
+    private final EventRepository eventRepository;
+    private final EventSearchIndex eventSearchIndex;
+    private final EventGeoIndex eventGeoIndex;
+
+    public EventSearchIndexLoader(EventRepository eventRepository, EventSearchIndex eventSearchIndex,
+                                  EventGeoIndex eventGeoIndex) {
+        this.eventRepository = eventRepository;
+        this.eventSearchIndex = eventSearchIndex;
+        this.eventGeoIndex = eventGeoIndex;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        eventSearchIndex.clear();
+        eventGeoIndex.clear();
+
+        // Walk the table in keyset batches so large catalogs are never fully materialized
+        List<Event> batch = eventRepository.findPageAfter(null, null, null, null, null, null, Limit.of(BATCH_SIZE));
+        while (!batch.isEmpty()) {
+            for (Event event : batch) {
+                eventSearchIndex.index(event);
+                eventGeoIndex.index(event);
+            }
+            if (batch.size() < BATCH_SIZE) {
+                break;
+            }
+            Event last = batch.get(batch.size() - 1);
+            batch = eventRepository.findPageAfter(null, null, null, null,
+                    last.getDateTime(), last.getEventId(), Limit.of(BATCH_SIZE));
+        }
+
+        logger.info("Search index rebuilt with {} events ({} with coordinates) in {} ms",
+                eventSearchIndex.size(), eventGeoIndex.size(), System.currentTimeMillis() - startedAt);
+    }
+}
@@ -1,24 +1,43 @@
 package com.demo.eventwave.service;
 
+import com.demo.eventwave.cache.EventDtoCache;
 import com.demo.eventwave.dto.EventDTO;
+import com.demo.eventwave.dto.PageDTO;
+import com.demo.eventwave.dto.RegisteredEventDTO;
 import com.demo.eventwave.dto.ReviewDTO;
 import com.demo.eventwave.entity.*;
 import com.demo.eventwave.repository.*;
+import com.demo.eventwave.search.EventGeoIndex;
+import com.demo.eventwave.search.EventSearchIndex;
+import com.demo.eventwave.util.EventCursor;
+import com.demo.eventwave.util.ReviewCursor;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "eventwave.service", histogram = true)
 public class AttendeeEventService {
 
     private static final Logger logger = LoggerFactory.getLogger(AttendeeEventService.class);
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final double DEFAULT_RADIUS_KM = 10;
+    public static final double MAX_RADIUS_KM = 200;
+
     @Autowired
     private EventRepository eventRepository;
 
@@ -31,12 +50,26 @@ public class AttendeeEventService {
     @Autowired
     private ReviewRepository reviewRepository;
 
+    @Autowired
+    private ReviewStatsService reviewStatsService;
+
     @Autowired
     private WishlistRepository wishlistRepository;
 
+    @Autowired
+    private EventSearchIndex eventSearchIndex;
+
+    @Autowired
+    private EventGeoIndex eventGeoIndex;
+
+    @Autowired
+    private EventDtoCache eventDtoCache;
+
+    @Autowired
+    private EventSeriesService eventSeriesService;
+
     // Basic version without wishlist status
     private EventDTO toDto(Event event) {
-        logger.debug("Converting Event to DTO (basic version) - Event ID: {}", event.getEventId());
         EventDTO dto = new EventDTO();
         dto.setEventId(event.getEventId());
         dto.setTitle(event.getTitle());
@@ -49,48 +82,166 @@ public class AttendeeEventService {
         dto.setOrganizerName(event.getOrganizer().getUserName());
         dto.setCategory(event.getCategory());
         dto.setImageUrl(event.getImageUrl());
+        dto.setSeriesId(event.getSeriesId());
+        dto.setLatitude(event.getLatitude());
+        dto.setLongitude(event.getLongitude());
         dto.setInWishlist(null);
-       
-        logger.debug("Basic DTO conversion complete for Event ID: {}", event.getEventId());
         return dto;
     }
 
-    // Enhanced version with wishlist status
-    private EventDTO toDto(Event event, String username) {
-        logger.debug("Converting Event to DTO with wishlist status - Event ID: {}, Username: {}",
-                event.getEventId(), username);
+    public EventDTO getEventById(Long eventId, String username) {
+        logger.debug("Fetching event by ID: {} for user: {}", eventId, username);
+        EventDTO cached = eventDtoCache.get(eventId);
+        if (cached == null) {
+            Event event = eventRepository.findById(eventId)
+                    .orElseThrow(() -> {
+                        logger.error("Event not found with ID: {}", eventId);
+                        return new RuntimeException("Event not found");
+                    });
+            cached = toDto(event);
+            eventDtoCache.put(eventId, cached);
+        }
+        EventDTO dto = cached;
 
-        EventDTO dto = toDto(event); // Start with basic conversion
+        // Per-user fields are layered on the shared copy, never cached
+        if (username != null) {
+            userRepository.findByUserName(username).ifPresent(user -> {
+                boolean inWishlist = wishlistRepository.existsByUserUserIdAndEventEventId(user.getUserId(), eventId);
+                dto.setInWishlist(inWishlist);
+            });
+        }
+        return dto;
+    }
+
+    public List<EventDTO> getAllEvents(String username) {
+        logger.debug("Fetching all events for user: {}", username);
+        return toDtos(eventRepository.findAll(), username);
+    }
 
+    public PageDTO<EventDTO> getEventsPage(String username, EventCategory category, String location,
+                                           LocalDateTime start, LocalDateTime end,
+                                           String cursor, Integer size) {
+        int pageSize = pageSize(size);
+        EventCursor after = EventCursor.decode(cursor);
+        logger.debug("Fetching catalog page for user: {}, size: {}, after: {}", username, pageSize,
+                after != null ? after.getEventId() : null);
+
+        // One extra row of each kind for PageDTO.of. A cursor on an occurrence is past every row
+        // at its date_time, hence the Long.MAX_VALUE tiebreak
+        String locationFilter = location != null && !location.isBlank() ? location : null;
+        List<Event> rows = eventRepository.findPageAfter(category, locationFilter,
+                start, end,
+                after != null ? after.getDateTime() : null,
+                after != null ? (after.getSeriesId() != null ? Long.MAX_VALUE : after.getEventId()) : null,
+                Limit.of(pageSize + 1));
+        List<EventDTO> occurrences = eventSeriesService.findOccurrences(category, locationFilter,
+                start, end, after, pageSize + 1);
+
+        List<EventDTO> merged = toDtos(rows, username);
+        merged.addAll(occurrences);
+        merged.sort(EventSeriesService.LISTING_ORDER);
+
+        return PageDTO.of(merged, pageSize, last -> last.getEventId() != null
+                ? new EventCursor(last.getDateTime(), last.getEventId()).encode()
+                : EventCursor.atOccurrence(last.getDateTime(), last.getSeriesId()).encode());
+    }
+
+    // Batched version: resolves the user and their wishlist once for the whole list
+    private List<EventDTO> toDtos(List<Event> events, String username) {
+        Set<Long> wishlistedIds = null;
         if (username != null) {
             User user = userRepository.findByUserName(username).orElse(null);
             if (user != null) {
-                boolean inWishlist = wishlistRepository.existsByUserUserIdAndEventEventId(
-                        user.getUserId(),
-                        event.getEventId()
-                );
-                dto.setInWishlist(inWishlist);
-                logger.debug("Wishlist status for Event ID {}: {}", event.getEventId(), inWishlist);
+                wishlistedIds = wishlistRepository.findEventIdsByUserId(user.getUserId());
             }
         }
-        return dto;
+
+        List<EventDTO> dtos = new ArrayList<>(events.size());
+        for (Event event : events) {
+            EventDTO dto = eventDtoCache.get(event.getEventId());
+            if (dto == null) {
+                dto = toDto(event);
+                eventDtoCache.put(event.getEventId(), dto);
+            }
+            if (wishlistedIds != null) {
+                dto.setInWishlist(wishlistedIds.contains(event.getEventId()));
+            }
+            dtos.add(dto);
+        }
+        return dtos;
     }
 
-    public EventDTO getEventById(Long eventId, String username) {
-        logger.debug("Fetching event by ID: {} for user: {}", eventId, username);
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> {
-                    logger.error("Event not found with ID: {}", eventId);
-                    return new RuntimeException("Event not found");
-                });
-        return username != null ? toDto(event, username) : toDto(event);
+    // Ranked full-text search over title, description and location (prefix matching)
+    public List<EventDTO> searchEvents(String query, Integer limit, String username) {
+        List<Long> rankedIds = eventSearchIndex.search(query, pageSize(limit));
+        logger.debug("Search '{}' matched {} events", query, rankedIds.size());
+        return toDtos(findInOrder(rankedIds), username);
     }
 
-    public List<EventDTO> getAllEvents(String username) {
-        logger.debug("Fetching all events for user: {}", username);
-        return eventRepository.findAll().stream()
-                .map(event -> username != null ? toDto(event, username) : toDto(event))
-                .collect(Collectors.toList());
+    // Events within radiusKm (default 10) of the point, nearest first, each with its distance
+    public List<EventDTO> findEventsNearby(double latitude, double longitude, Double radiusKm,
+                                           EventCategory category, LocalDateTime start, LocalDateTime end,
+                                           Integer limit, String username) {
+        requireCoordinates(latitude, longitude);
+        double radius = radiusKm != null ? radiusKm : DEFAULT_RADIUS_KM;
+        if (!(radius > 0 && radius <= MAX_RADIUS_KM)) {
+            throw new IllegalArgumentException("radiusKm must be above 0 and at most " + MAX_RADIUS_KM);
+        }
+        List<EventGeoIndex.Hit> hits = eventGeoIndex.withinRadius(latitude, longitude, radius,
+                category, start, end, pageSize(limit));
+        logger.debug("Nearby ({}, {}) within {} km matched {} events", latitude, longitude, radius, hits.size());
+
+        Map<Long, Double> distances = new HashMap<>();
+        hits.forEach(hit -> distances.put(hit.eventId(), hit.distanceKm()));
+        List<EventDTO> dtos = toDtos(findInOrder(hits.stream().map(EventGeoIndex.Hit::eventId).toList()), username);
+        dtos.forEach(dto -> dto.setDistanceKm(distances.get(dto.getEventId())));
+        return dtos;
+    }
+
+    // Events inside a map viewport, soonest first; minLongitude > maxLongitude crosses the antimeridian
+    public List<EventDTO> findEventsInBox(double minLatitude, double minLongitude,
+                                          double maxLatitude, double maxLongitude,
+                                          EventCategory category, LocalDateTime start, LocalDateTime end,
+                                          Integer limit, String username) {
+        requireCoordinates(minLatitude, minLongitude);
+        requireCoordinates(maxLatitude, maxLongitude);
+        if (minLatitude > maxLatitude) {
+            throw new IllegalArgumentException("minLat must not be above maxLat");
+        }
+        List<Long> ids = eventGeoIndex.withinBox(minLatitude, minLongitude, maxLatitude, maxLongitude,
+                category, start, end, pageSize(limit));
+        logger.debug("Box ({}, {}) - ({}, {}) matched {} events", minLatitude, minLongitude,
+                maxLatitude, maxLongitude, ids.size());
+        return toDtos(findInOrder(ids), username);
+    }
+
+    private static void requireCoordinates(double latitude, double longitude) {
+        String error = EventGeoIndex.coordinateError(latitude, longitude);
+        if (error != null) {
+            throw new IllegalArgumentException(error);
+        }
+    }
+
+    static int pageSize(Integer limit) {
+        return limit == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+    }
+
+    // Loads the events in the order of ids, skipping any deleted since they were indexed
+    private List<Event> findInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Event> byId = new HashMap<>();
+        eventRepository.findAllById(ids).forEach(event -> byId.put(event.getEventId(), event));
+
+        List<Event> ordered = new ArrayList<>(byId.size());
+        for (Long id : ids) {
+            Event event = byId.get(id);
+            if (event != null) {
+                ordered.add(event);
+            }
+        }
+        return ordered;
     }
 
     public List<EventDTO> searchEventsByTitle(String title) {
@@ -114,24 +265,37 @@ public class AttendeeEventService {
                 .collect(Collectors.toList());
     }
 
+    // Includes upcoming series occurrences in the window, whether or not they have a row yet
     public List<EventDTO> filterByDateRange(LocalDateTime start, LocalDateTime end) {
         logger.debug("Filtering events between {} and {}", start, end);
-        return eventRepository.findByDateTimeBetween(start, end).stream()
+        List<EventDTO> events = eventRepository.findByDateTimeBetween(start, end).stream()
                 .map(this::toDto)
                 .collect(Collectors.toList());
+        events.addAll(eventSeriesService.findOccurrences(null, null, start, end, null, Integer.MAX_VALUE));
+        events.sort(EventSeriesService.LISTING_ORDER);
+        return events;
     }
 
-    public List<EventDTO> getEventsRegisteredByUser(String username) {
-        logger.debug("Fetching registered events for user: {}", username);
-        User user = userRepository.findByUserName(username)
-                .orElseThrow(() -> {
-                    logger.error("User not found with username: {}", username);
-                    return new RuntimeException("User not found");
-                });
-
-        return registrationRepository.findByUser(user).stream()
-                .map(registration -> toDto(registration.getEvent(), username))
-                .collect(Collectors.toList());
+    // One query for the whole list; when is "upcoming", "past" or null for all registrations
+    public List<RegisteredEventDTO> getEventsRegisteredByUser(String username, String when) {
+        logger.debug("Fetching registered events for user: {} ({})", username, when);
+        LocalDateTime now = LocalDateTime.now();
+        List<RegisteredEventDTO> events;
+        if (when == null) {
+            events = registrationRepository.findRegisteredEvents(username, null, null);
+        } else {
+            events = switch (when.toLowerCase()) {
+                case "upcoming" -> registrationRepository.findRegisteredEvents(username, now, null);
+                case "past" -> registrationRepository.findRegisteredEvents(username, null, now);
+                default -> throw new IllegalArgumentException("when must be 'upcoming' or 'past'");
+            };
+        }
+        // An unknown user also comes back empty, so only then is the user looked up
+        if (events.isEmpty() && !userRepository.existsByUserName(username)) {
+            logger.error("User not found with username: {}", username);
+            throw new RuntimeException("User not found");
+        }
+        return events;
     }
 
     public List<EventDTO> getEventsByCategory(EventCategory category) {
@@ -142,9 +306,13 @@ public class AttendeeEventService {
     }
 
     @Transactional
-    public ReviewDTO createReview(Long eventId, String username, String feedback) {
+    public ReviewDTO createReview(Long eventId, String username, Integer rating, String feedback) {
         logger.debug("Creating review for event ID: {} by user: {}", eventId, username);
 
+        if (rating != null && (rating < 1 || rating > 5)) {
+            throw new IllegalArgumentException("Rating must be between 1 and 5");
+        }
+
         User user = userRepository.findByUserName(username)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
@@ -166,19 +334,38 @@ public class AttendeeEventService {
         Review review = new Review();
         review.setEvent(event);
         review.setUser(user);
+        review.setRating(rating);
         review.setFeedback(feedback);
         review.setCreatedAt(LocalDateTime.now());
 
         Review savedReview = reviewRepository.save(review);
+        reviewStatsService.recordReview(eventId, rating);
         return convertToReviewDTO(savedReview, true);
     }
 
 
     public List<ReviewDTO> getEventReviews(Long eventId, boolean showFeedback) {
         logger.debug("Fetching reviews for event ID: {}, showFeedback: {}", eventId, showFeedback);
-        return reviewRepository.findByEvent_EventId(eventId).stream()
-                .map(review -> convertToReviewDTO(review, showFeedback))
-                .collect(Collectors.toList());
+        List<ReviewDTO> reviews = reviewRepository.findPageBefore(eventId, null, null, showFeedback, Limit.unlimited());
+        reviews.forEach(review -> review.setShowFeedback(showFeedback));
+        return reviews;
+    }
+
+    // Newest first; one projection query per page, whatever the number of reviewers
+    public PageDTO<ReviewDTO> getEventReviewsPage(Long eventId, String cursor, Integer size, boolean showFeedback) {
+        int pageSize = pageSize(size);
+        ReviewCursor before = ReviewCursor.decode(cursor);
+        logger.debug("Fetching review page for event ID: {}, size: {}, before: {}", eventId, pageSize,
+                before != null ? before.getReviewId() : null);
+
+        List<ReviewDTO> rows = reviewRepository.findPageBefore(eventId,
+                before != null ? before.getCreatedAt() : null,
+                before != null ? before.getReviewId() : null,
+                showFeedback,
+                Limit.of(pageSize + 1));
+        rows.forEach(review -> review.setShowFeedback(showFeedback));
+
+        return PageDTO.of(rows, pageSize, last -> new ReviewCursor(last.getCreatedAt(), last.getReviewId()).encode());
     }
 
     private ReviewDTO convertToReviewDTO(Review review, boolean showFeedback) {
@@ -187,7 +374,7 @@ public class AttendeeEventService {
         dto.setEventId(review.getEvent().getEventId());
         dto.setUserId(review.getUser().getUserId());
         dto.setUserName(review.getUser().getUserName());
-        
+        dto.setRating(review.getRating());
         dto.setFeedback(showFeedback ? review.getFeedback() : null);
         dto.setCreatedAt(review.getCreatedAt());
         dto.setShowFeedback(showFeedback);
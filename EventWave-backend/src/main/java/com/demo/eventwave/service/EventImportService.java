@@ -0,0 +1,398 @@
+package com.demo.eventwave.service;
+
+import com.demo.eventwave.cache.EventDtoCache;
+import com.demo.eventwave.dto.EventDTO;
+import com.demo.eventwave.dto.EventImportResultDTO;
+import com.demo.eventwave.dto.EventImportRowDTO;
+import com.demo.eventwave.entity.EventCategory;
+import com.demo.eventwave.entity.User;
+import com.demo.eventwave.repository.UserRepository;
+import com.demo.eventwave.search.EventGeoIndex;
+import com.demo.eventwave.search.EventSearchIndex;
+import com.demo.eventwave.util.CsvReader;
+import io.micrometer.core.annotation.Timed;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bulk creation and update of an organizer's events, from a JSON array or a CSV upload.
+ * Every row is validated first and gets its own result; valid rows are written with plain
+ * JDBC batches (one statement per batch, multi-row on MySQL with rewriteBatchedStatements)
+ * instead of one JPA insert per event, which IDENTITY keys would otherwise force. The keys
+ * come back from each batch, so events keep their AUTO_INCREMENT ids. Rows carrying an
+ * eventId update that event, if it belongs to the organizer.
+ *
+ * The whole import is one transaction: invalid rows are reported and skipped, but a
+ * database failure writes nothing. The search and geo indexes and the DTO cache are only
+ * updated once that transaction commits, so they never show rows a rollback took back.
+ */
+@Service
+@Timed(value = "eventwave.service", histogram = true)
+public class EventImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventImportService.class);
+
+    private static final List<String> CSV_COLUMNS = List.of("eventId", "title", "description", "dateTime",
+            "location", "capacity", "price", "category", "imageUrl", "latitude", "longitude");
+    private static final int MAX_TEXT_LENGTH = 255;
+
+    private static final String INSERT_EVENT = "INSERT INTO events (title, description, date_time, location, capacity, " +
+            "seats_taken, price, latitude, longitude, organizer_id, category, image_url) " +
+            "VALUES (?, ?, ?, ?, ?, 0, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_STATS = "INSERT INTO event_review_stats (event_id, review_count, rating_count, " +
+            "rating_sum, rating_sum_squares, stars_1, stars_2, stars_3, stars_4, stars_5) VALUES (?, 0, 0, 0, 0, 0, 0, 0, 0, 0)";
+    private static final String UPDATE_EVENT = "UPDATE events SET title = ?, description = ?, date_time = ?, location = ?, " +
+            "capacity = ?, price = ?, latitude = ?, longitude = ?, category = ?, image_url = ? WHERE event_id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventSearchIndex eventSearchIndex;
+
+    @Autowired
+    private EventGeoIndex eventGeoIndex;
+
+    @Autowired
+    private EventDtoCache eventDtoCache;
+
+    @Autowired
+    private RegistrationService registrationService;
+
+    @Value("${eventwave.events.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${eventwave.events.import.max-rows:20000}")
+    private int maxRows;
+
+    @Transactional
+    public EventImportResultDTO importEvents(List<EventDTO> events, Long organizerId) {
+        if (events.size() > maxRows) {
+            throw new IllegalArgumentException("At most " + maxRows + " events per import");
+        }
+        List<EventImportRowDTO> results = new ArrayList<>(events.size());
+        List<Row> valid = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            EventImportRowDTO result = new EventImportRowDTO(i + 1);
+            results.add(result);
+            String error = validate(events.get(i));
+            if (error != null) {
+                result.reject(error);
+            } else {
+                valid.add(new Row(events.get(i), result));
+            }
+        }
+        return write(valid, results, organizerId);
+    }
+
+    // Header row names the columns (any order, see CSV_COLUMNS); dateTime is ISO, e.g. 2025-06-01T19:30:00
+    @Transactional
+    public EventImportResultDTO importCsv(Reader csv, Long organizerId) throws IOException {
+        CsvReader reader = new CsvReader(csv);
+        List<String> header = reader.next();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV is empty");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).trim();
+            if (!CSV_COLUMNS.contains(name)) {
+                throw new IllegalArgumentException("Unknown CSV column: " + name);
+            }
+            columns.put(name, i);
+        }
+
+        List<EventImportRowDTO> results = new ArrayList<>();
+        List<Row> valid = new ArrayList<>();
+        List<String> fields;
+        while ((fields = reader.next()) != null) {
+            if (results.size() == maxRows) {
+                throw new IllegalArgumentException("At most " + maxRows + " events per import");
+            }
+            EventImportRowDTO result = new EventImportRowDTO(results.size() + 1);
+            results.add(result);
+            try {
+                EventDTO event = fromCsv(fields, columns);
+                String error = validate(event);
+                if (error != null) {
+                    result.reject(error);
+                } else {
+                    valid.add(new Row(event, result));
+                }
+            } catch (IllegalArgumentException e) {
+                result.reject(e.getMessage());
+            }
+        }
+        return write(valid, results, organizerId);
+    }
+
+    private EventImportResultDTO write(List<Row> valid, List<EventImportRowDTO> results, Long organizerId) {
+        long started = System.nanoTime();
+        User organizer = userRepository.findById(organizerId)
+                .orElseThrow(() -> {
+                    logger.error("Organizer with ID {} not found", organizerId);
+                    return new RuntimeException("Organizer not found");
+                });
+
+        List<Row> inserts = new ArrayList<>();
+        List<Row> updates = new ArrayList<>();
+        for (Row row : valid) {
+            (row.event.getEventId() == null ? inserts : updates).add(row);
+        }
+        for (int from = 0; from < inserts.size(); from += batchSize) {
+            insertBatch(inserts.subList(from, Math.min(inserts.size(), from + batchSize)), organizer);
+        }
+        for (int from = 0; from < updates.size(); from += batchSize) {
+            updateBatch(updates.subList(from, Math.min(updates.size(), from + batchSize)), organizer);
+        }
+        List<Row> written = valid.stream()
+                .filter(row -> row.result.getStatus() != EventImportRowDTO.Status.REJECTED)
+                .toList();
+        afterCommit(() -> refresh(written));
+
+        EventImportResultDTO result = new EventImportResultDTO(results);
+        logger.info("Imported events for organizer {}: {} created, {} updated, {} rejected in {} ms", organizerId,
+                result.getCreated(), result.getUpdated(), result.getRejected(), (System.nanoTime() - started) / 1_000_000);
+        return result;
+    }
+
+    private void insertBatch(List<Row> batch, User organizer) {
+        GeneratedKeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_EVENT, new String[]{"event_id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        EventDTO event = batch.get(i).event;
+                        setCommon(ps, event);
+                        ps.setLong(9, organizer.getUserId());
+                        ps.setString(10, event.getCategory().name());
+                        ps.setString(11, event.getImageUrl());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return batch.size();
+                    }
+                }, keys);
+
+        List<Map<String, Object>> generated = keys.getKeyList();
+        if (generated.size() != batch.size()) {
+            throw new IllegalStateException("Expected " + batch.size() + " generated keys, got " + generated.size());
+        }
+        List<Object[]> statsRows = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            Long eventId = ((Number) generated.get(i).values().iterator().next()).longValue();
+            Row row = batch.get(i);
+            row.result.created(eventId);
+            statsRows.add(new Object[]{eventId});
+        }
+        jdbcTemplate.batchUpdate(INSERT_STATS, statsRows);
+    }
+
+    private void updateBatch(List<Row> batch, User organizer) {
+        // Which of the batch's events this organizer owns, how many seats each has sold and its current capacity
+        Map<Long, Integer> seatsTaken = new HashMap<>();
+        Map<Long, Integer> capacities = new HashMap<>();
+        namedParameterJdbcTemplate.query(
+                "SELECT event_id, seats_taken, capacity FROM events WHERE organizer_id = :organizerId AND event_id IN (:eventIds)",
+                new MapSqlParameterSource()
+                        .addValue("organizerId", organizer.getUserId())
+                        .addValue("eventIds", batch.stream().map(row -> row.event.getEventId()).toList()),
+                rs -> {
+                    seatsTaken.put(rs.getLong(1), rs.getInt(2));
+                    capacities.put(rs.getLong(1), rs.getInt(3));
+                });
+
+        List<Row> owned = new ArrayList<>(batch.size());
+        for (Row row : batch) {
+            Integer taken = seatsTaken.get(row.event.getEventId());
+            if (taken == null) {
+                row.result.reject("Event not found or not yours");
+            } else if (row.event.getCapacity() < taken) {
+                row.result.reject("Capacity is below the " + taken + " seats already taken");
+            } else {
+                owned.add(row);
+            }
+        }
+        jdbcTemplate.batchUpdate(UPDATE_EVENT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                EventDTO event = owned.get(i).event;
+                setCommon(ps, event);
+                ps.setString(9, event.getCategory().name());
+                ps.setString(10, event.getImageUrl());
+                ps.setLong(11, event.getEventId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return owned.size();
+            }
+        });
+        for (Row row : owned) {
+            Long eventId = row.event.getEventId();
+            // Seats added by the import go to the waitlist first, as they do on a single update
+            if (row.event.getCapacity() > capacities.get(eventId)) {
+                registrationService.promoteWaitlisted(eventId, row.event.getCapacity() - seatsTaken.get(eventId));
+            }
+            row.result.updated(eventId);
+        }
+    }
+
+    private void refresh(List<Row> written) {
+        for (Row row : written) {
+            Long eventId = row.result.getEventId();
+            eventSearchIndex.index(eventId, row.event.getTitle(), row.event.getDescription(), row.event.getLocation());
+            eventGeoIndex.index(eventId, row.event.getLatitude(), row.event.getLongitude(), row.event.getCategory(),
+                    row.event.getDateTime());
+            if (row.result.getStatus() == EventImportRowDTO.Status.UPDATED) {
+                eventDtoCache.evict(eventId);
+            }
+        }
+    }
+
+    // Runs the action once the surrounding transaction commits, and not at all if it rolls back
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // Columns 1-8, shared by the insert and the update
+    private static void setCommon(PreparedStatement ps, EventDTO event) throws SQLException {
+        ps.setString(1, event.getTitle());
+        if (event.getDescription() != null) {
+            ps.setString(2, event.getDescription());
+        } else {
+            ps.setNull(2, Types.VARCHAR);
+        }
+        ps.setTimestamp(3, Timestamp.valueOf(event.getDateTime()));
+        ps.setString(4, event.getLocation());
+        ps.setInt(5, event.getCapacity());
+        ps.setBigDecimal(6, event.getPrice());
+        ps.setObject(7, event.getLatitude(), Types.DOUBLE);
+        ps.setObject(8, event.getLongitude(), Types.DOUBLE);
+    }
+
+    // Null when the event can be written, else what is wrong with it
+    static String validate(EventDTO event) {
+        if (event == null) {
+            return "Row is empty";
+        }
+        if (isBlank(event.getTitle())) {
+            return "Title is required";
+        }
+        if (isBlank(event.getLocation())) {
+            return "Location is required";
+        }
+        if (event.getTitle().length() > MAX_TEXT_LENGTH || event.getLocation().length() > MAX_TEXT_LENGTH
+                || (event.getImageUrl() != null && event.getImageUrl().length() > MAX_TEXT_LENGTH)) {
+            return "Title, location and image URL are limited to " + MAX_TEXT_LENGTH + " characters";
+        }
+        if (event.getDateTime() == null) {
+            return "Date and time are required";
+        }
+        if (event.getCapacity() == null || event.getCapacity() < 1) {
+            return "Capacity must be at least 1";
+        }
+        if (event.getPrice() == null || event.getPrice().signum() < 0) {
+            return "Price must be zero or more";
+        }
+        if (event.getCategory() == null) {
+            return "Event category is required";
+        }
+        return EventGeoIndex.coordinateError(event.getLatitude(), event.getLongitude());
+    }
+
+    private static EventDTO fromCsv(List<String> fields, Map<String, Integer> columns) {
+        EventDTO event = new EventDTO();
+        String eventId = field(fields, columns, "eventId");
+        String capacity = field(fields, columns, "capacity");
+        String price = field(fields, columns, "price");
+        String dateTime = field(fields, columns, "dateTime");
+        String category = field(fields, columns, "category");
+        String latitude = field(fields, columns, "latitude");
+        String longitude = field(fields, columns, "longitude");
+        try {
+            event.setEventId(eventId != null ? Long.valueOf(eventId) : null);
+            event.setCapacity(capacity != null ? Integer.valueOf(capacity) : null);
+            event.setPrice(price != null ? new BigDecimal(price) : null);
+            event.setLatitude(latitude != null ? Double.valueOf(latitude) : null);
+            event.setLongitude(longitude != null ? Double.valueOf(longitude) : null);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("eventId, capacity, price, latitude and longitude must be numbers");
+        }
+        try {
+            event.setDateTime(dateTime != null ? LocalDateTime.parse(dateTime) : null);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("dateTime must look like 2025-06-01T19:30:00");
+        }
+        if (category != null) {
+            try {
+                event.setCategory(EventCategory.valueOf(category.toUpperCase().replace(" ", "_")));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown category: " + category);
+            }
+        }
+        event.setTitle(field(fields, columns, "title"));
+        event.setDescription(field(fields, columns, "description"));
+        event.setLocation(field(fields, columns, "location"));
+        event.setImageUrl(field(fields, columns, "imageUrl"));
+        return event;
+    }
+
+    // Missing and empty cells are both null
+    private static String field(List<String> fields, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private record Row(EventDTO event, EventImportRowDTO result) {
+    }
+}
@@ -0,0 +1,284 @@
+package com.demo.eventwave.service;
+
+import com.demo.eventwave.dto.EventDTO;
+import com.demo.eventwave.dto.EventSeriesDTO;
+import com.demo.eventwave.entity.Event;
+import com.demo.eventwave.entity.EventCategory;
+import com.demo.eventwave.entity.EventSeries;
+import com.demo.eventwave.entity.User;
+import com.demo.eventwave.repository.EventRepository;
+import com.demo.eventwave.repository.EventSeriesRepository;
+import com.demo.eventwave.repository.UserRepository;
+import com.demo.eventwave.search.EventGeoIndex;
+import com.demo.eventwave.search.EventSearchIndex;
+import com.demo.eventwave.util.EventCursor;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Recurring events. A series is stored once; its occurrences are expanded from the
+ * recurrence rule for the window being read, and an occurrence only becomes an
+ * {@link Event} row when someone registers for it. From then on the row stands in for
+ * the occurrence: listings return the row and skip the expanded copy.
+ */
+@Service
+@Timed(value = "eventwave.service", histogram = true)
+public class EventSeriesService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventSeriesService.class);
+
+    // Listing order at equal date_time: rows first, then occurrences by series
+    static final Comparator<EventDTO> LISTING_ORDER = Comparator.comparing(EventDTO::getDateTime)
+            .thenComparing(dto -> dto.getEventId() == null)
+            .thenComparing(dto -> dto.getEventId() != null ? dto.getEventId() : dto.getSeriesId());
+
+    @Autowired
+    private EventSeriesRepository eventSeriesRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReviewStatsService reviewStatsService;
+
+    @Autowired
+    private EventSearchIndex eventSearchIndex;
+
+    @Autowired
+    private EventGeoIndex eventGeoIndex;
+
+    @Value("${eventwave.events.series.max-occurrences:1000}")
+    private int maxOccurrences;
+
+    public EventSeriesDTO createSeries(EventSeriesDTO seriesDTO, Long organizerId) {
+        logger.info("Creating event series by organizer ID: {}", organizerId);
+        User organizer = userRepository.findById(organizerId)
+                .orElseThrow(() -> {
+                    logger.error("Organizer with ID {} not found", organizerId);
+                    return new RuntimeException("Organizer not found");
+                });
+        validate(seriesDTO);
+
+        EventSeries series = new EventSeries();
+        series.setTitle(seriesDTO.getTitle());
+        series.setDescription(seriesDTO.getDescription());
+        series.setLocation(seriesDTO.getLocation());
+        series.setCapacity(seriesDTO.getCapacity());
+        series.setPrice(seriesDTO.getPrice());
+        series.setOrganizer(organizer);
+        series.setCategory(seriesDTO.getCategory());
+        series.setImageUrl(seriesDTO.getImageUrl());
+        series.setLatitude(seriesDTO.getLatitude());
+        series.setLongitude(seriesDTO.getLongitude());
+        series.setFirstStart(seriesDTO.getFirstStart());
+        series.setFrequency(seriesDTO.getFrequency());
+        series.setRepeatEvery(seriesDTO.getRepeatEvery() != null ? seriesDTO.getRepeatEvery() : 1);
+        series.setRepeatUntil(seriesDTO.getRepeatUntil());
+
+        EventSeries saved = eventSeriesRepository.save(series);
+        logger.info("Event series created successfully with ID: {}", saved.getSeriesId());
+        return toDto(saved);
+    }
+
+    private static void validate(EventSeriesDTO series) {
+        if (series.getTitle() == null || series.getTitle().isBlank()) {
+            throw new IllegalArgumentException("Title is required");
+        }
+        if (series.getLocation() == null || series.getLocation().isBlank()) {
+            throw new IllegalArgumentException("Location is required");
+        }
+        if (series.getCapacity() == null || series.getCapacity() < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1");
+        }
+        if (series.getPrice() == null || series.getPrice().signum() < 0) {
+            throw new IllegalArgumentException("Price must be zero or more");
+        }
+        if (series.getCategory() == null) {
+            throw new IllegalArgumentException("Event category is required");
+        }
+        if (series.getFrequency() == null) {
+            throw new IllegalArgumentException("Frequency is required");
+        }
+        if (series.getRepeatEvery() != null && series.getRepeatEvery() < 1) {
+            throw new IllegalArgumentException("repeatEvery must be at least 1");
+        }
+        if (series.getFirstStart() == null || series.getRepeatUntil() == null) {
+            throw new IllegalArgumentException("firstStart and repeatUntil are required");
+        }
+        if (series.getRepeatUntil().isBefore(series.getFirstStart())) {
+            throw new IllegalArgumentException("repeatUntil must not be before firstStart");
+        }
+        String coordinateError = EventGeoIndex.coordinateError(series.getLatitude(), series.getLongitude());
+        if (coordinateError != null) {
+            throw new IllegalArgumentException(coordinateError);
+        }
+    }
+
+    /**
+     * Upcoming occurrences without a row yet, in [start, end] and after the cursor, in
+     * {@link #LISTING_ORDER}; at most limit of them (capped at
+     * {@code eventwave.events.series.max-occurrences}). Past occurrences are never listed.
+     */
+    public List<EventDTO> findOccurrences(EventCategory category, String location,
+                                          LocalDateTime start, LocalDateTime end,
+                                          EventCursor after, int limit) {
+        int max = Math.min(limit, maxOccurrences);
+        LocalDateTime from = latest(LocalDateTime.now(), start, after != null ? after.getDateTime() : null);
+        if (max <= 0 || (end != null && end.isBefore(from))) {
+            return List.of();
+        }
+        List<EventSeries> running = eventSeriesRepository.findRunningBetween(category, location, from, end);
+        if (running.isEmpty()) {
+            return List.of();
+        }
+
+        // Each series contributes at most max candidates: if some already have rows, those rows sort
+        // ahead of the remaining candidates in the listing, so the merged page still holds
+        List<EventDTO> candidates = new ArrayList<>();
+        LocalDateTime lastCandidate = from;
+        for (EventSeries series : running) {
+            // One extra so that dropping the cursor's own occurrence still leaves max
+            for (LocalDateTime occurrence : series.occurrences(from, end, max + 1)) {
+                if (isAfter(after, occurrence, series.getSeriesId())) {
+                    candidates.add(toOccurrenceDto(series, occurrence));
+                    lastCandidate = occurrence.isAfter(lastCandidate) ? occurrence : lastCandidate;
+                }
+            }
+        }
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Set<LocalDateTime>> materialized = new HashMap<>();
+        List<Long> seriesIds = running.stream().map(EventSeries::getSeriesId).toList();
+        for (Object[] row : eventRepository.findMaterializedOccurrences(seriesIds, from, lastCandidate)) {
+            materialized.computeIfAbsent((Long) row[0], id -> new HashSet<>()).add((LocalDateTime) row[1]);
+        }
+        candidates.removeIf(dto -> materialized.getOrDefault(dto.getSeriesId(), Set.of()).contains(dto.getDateTime()));
+        candidates.sort(LISTING_ORDER);
+        logger.debug("Expanded {} occurrences of {} series from {}", candidates.size(), running.size(), from);
+        return candidates.size() > max ? new ArrayList<>(candidates.subList(0, max)) : candidates;
+    }
+
+    // A cursor on a row comes before every occurrence at its date_time; one on an occurrence only before later series
+    private static boolean isAfter(EventCursor cursor, LocalDateTime occurrence, Long seriesId) {
+        if (cursor == null || occurrence.isAfter(cursor.getDateTime())) {
+            return true;
+        }
+        return occurrence.isEqual(cursor.getDateTime())
+                && (cursor.getSeriesId() == null || seriesId > cursor.getSeriesId());
+    }
+
+    private static LocalDateTime latest(LocalDateTime first, LocalDateTime... others) {
+        LocalDateTime latest = first;
+        for (LocalDateTime other : others) {
+            if (other != null && other.isAfter(latest)) {
+                latest = other;
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * Returns the event ID of an occurrence, creating its row on first use. Safe to race:
+     * the unique (series_id, date_time) key lets one insert win and the others read it back.
+     */
+    public Long materializeOccurrence(Long seriesId, LocalDateTime occurrence) {
+        if (seriesId == null || occurrence == null) {
+            throw new IllegalArgumentException("seriesId and occurrence are required");
+        }
+        Event existing = eventRepository.findBySeriesIdAndDateTime(seriesId, occurrence).orElse(null);
+        if (existing != null) {
+            return existing.getEventId();
+        }
+
+        EventSeries series = eventSeriesRepository.findById(seriesId)
+                .orElseThrow(() -> {
+                    logger.error("Event series with ID {} not found", seriesId);
+                    return new RuntimeException("Event series not found");
+                });
+        if (!series.isOccurrence(occurrence)) {
+            throw new IllegalArgumentException("Not an occurrence of this series");
+        }
+        if (occurrence.isBefore(LocalDateTime.now())) {
+            throw new IllegalArgumentException("Occurrence is in the past");
+        }
+
+        Event event = new Event(series.getTitle(), series.getDescription(), occurrence, series.getLocation(),
+                series.getCapacity(), series.getPrice(), series.getOrganizer(), series.getCategory(),
+                series.getImageUrl());
+        event.setSeriesId(seriesId);
+        event.setLatitude(series.getLatitude());
+        event.setLongitude(series.getLongitude());
+        Event saved;
+        try {
+            saved = eventRepository.save(event);
+        } catch (DataIntegrityViolationException e) {
+            logger.info("Occurrence {} of series {} was materialized concurrently", occurrence, seriesId);
+            return eventRepository.findBySeriesIdAndDateTime(seriesId, occurrence)
+                    .orElseThrow(() -> e)
+                    .getEventId();
+        }
+        reviewStatsService.initialize(saved.getEventId());
+        eventSearchIndex.index(saved);
+        eventGeoIndex.index(saved);
+        logger.info("Materialized occurrence {} of series {} as event ID: {}", occurrence, seriesId, saved.getEventId());
+        return saved.getEventId();
+    }
+
+    private EventDTO toOccurrenceDto(EventSeries series, LocalDateTime occurrence) {
+        EventDTO dto = new EventDTO();
+        dto.setSeriesId(series.getSeriesId());
+        dto.setTitle(series.getTitle());
+        dto.setDescription(series.getDescription());
+        dto.setDateTime(occurrence);
+        dto.setLocation(series.getLocation());
+        dto.setCapacity(series.getCapacity());
+        dto.setPrice(series.getPrice());
+        dto.setOrganizerId(series.getOrganizer().getUserId());
+        dto.setOrganizerName(series.getOrganizer().getUserName());
+        dto.setCategory(series.getCategory());
+        dto.setImageUrl(series.getImageUrl());
+        dto.setLatitude(series.getLatitude());
+        dto.setLongitude(series.getLongitude());
+        return dto;
+    }
+
+    private EventSeriesDTO toDto(EventSeries series) {
+        EventSeriesDTO dto = new EventSeriesDTO();
+        dto.setSeriesId(series.getSeriesId());
+        dto.setTitle(series.getTitle());
+        dto.setDescription(series.getDescription());
+        dto.setLocation(series.getLocation());
+        dto.setCapacity(series.getCapacity());
+        dto.setPrice(series.getPrice());
+        dto.setOrganizerId(series.getOrganizer().getUserId());
+        dto.setOrganizerName(series.getOrganizer().getUserName());
+        dto.setCategory(series.getCategory());
+        dto.setImageUrl(series.getImageUrl());
+        dto.setLatitude(series.getLatitude());
+        dto.setLongitude(series.getLongitude());
+        dto.setFirstStart(series.getFirstStart());
+        dto.setFrequency(series.getFrequency());
+        dto.setRepeatEvery(series.getRepeatEvery());
+        dto.setRepeatUntil(series.getRepeatUntil());
+        return dto;
+    }
+}
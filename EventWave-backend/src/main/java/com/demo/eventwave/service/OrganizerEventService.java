@@ -1,27 +1,39 @@
 package com.demo.eventwave.service;
 
+import com.demo.eventwave.cache.EventDtoCache;
+import com.demo.eventwave.dto.AttendeeDTO;
 import com.demo.eventwave.dto.EventDTO;
+import com.demo.eventwave.dto.PageDTO;
 import com.demo.eventwave.dto.ReviewDTO;
 import com.demo.eventwave.dto.ReviewSummaryDTO;
 import com.demo.eventwave.entity.Event;
-import com.demo.eventwave.entity.Review;
+import com.demo.eventwave.entity.EventReviewStats;
 import com.demo.eventwave.entity.User;
 import com.demo.eventwave.repository.EventRepository;
-import com.demo.eventwave.repository.ReviewRepository;
 import com.demo.eventwave.repository.UserRepository;
+import com.demo.eventwave.search.EventGeoIndex;
+import com.demo.eventwave.search.EventSearchIndex;
+import io.micrometer.core.annotation.Timed;
+import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "eventwave.service", histogram = true)
 public class OrganizerEventService {
 
     private static final Logger logger = LoggerFactory.getLogger(OrganizerEventService.class);
 
+    private static final int EXPORT_BATCH_SIZE = AttendeeEventService.MAX_PAGE_SIZE;
+
     @Autowired
     private EventRepository eventRepository;
 
@@ -29,7 +41,22 @@ public class OrganizerEventService {
     private UserRepository userRepository;
 
     @Autowired
-    private ReviewRepository reviewRepository;
+    private EventSearchIndex eventSearchIndex;
+
+    @Autowired
+    private EventGeoIndex eventGeoIndex;
+
+    @Autowired
+    private EventDtoCache eventDtoCache;
+
+    @Autowired
+    private ReviewStatsService reviewStatsService;
+
+    @Autowired
+    private AttendeeEventService attendeeEventService;
+
+    @Autowired
+    private RegistrationService registrationService;
     
     public EventDTO getEventByIdForOrganizer(Long eventId, Long organizerId) {
         Event event = eventRepository.findById(eventId)
@@ -56,6 +83,7 @@ public class OrganizerEventService {
             logger.warn("Event category is null during creation");
             throw new IllegalArgumentException("Event category is required");
         }
+        validateCoordinates(eventDTO);
 
         Event event = new Event();
         event.setTitle(eventDTO.getTitle());
@@ -67,13 +95,20 @@ public class OrganizerEventService {
         event.setOrganizer(organizer);
         event.setCategory(eventDTO.getCategory());
         event.setImageUrl(eventDTO.getImageUrl());
+        event.setLatitude(eventDTO.getLatitude());
+        event.setLongitude(eventDTO.getLongitude());
 
 
         Event savedEvent = eventRepository.save(event);
+        reviewStatsService.initialize(savedEvent.getEventId());
+        eventSearchIndex.index(savedEvent);
+        eventGeoIndex.index(savedEvent);
         logger.info("Event created successfully with ID: {}", savedEvent.getEventId());
         return toDto(savedEvent);
     }
 
+    // A capacity below the seats already taken is rejected; added seats go to the waitlist first
+    @Transactional
     public EventDTO updateEvent(Long eventId, EventDTO eventDTO, Long organizerId) {
         logger.info("Updating event ID: {} by organizer ID: {}", eventId, organizerId);
         Event existing = eventRepository.findById(eventId)
@@ -86,6 +121,17 @@ public class OrganizerEventService {
             logger.error("Unauthorized update attempt by organizer ID: {}", organizerId);
             throw new RuntimeException("Only organizer can modify this event");
         }
+        validateCoordinates(eventDTO);
+        int oldCapacity = existing.getCapacity();
+        Integer capacity = eventDTO.getCapacity();
+        if (capacity == null || capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1");
+        }
+        // Conditional UPDATE, so the check holds against seats being claimed concurrently
+        if (eventRepository.updateCapacity(eventId, capacity) == 0) {
+            logger.warn("Rejected capacity {} for event {}: below the seats already taken", capacity, eventId);
+            throw new IllegalArgumentException("Capacity is below the " + existing.getSeatsTaken() + " seats already taken");
+        }
 
         existing.setTitle(eventDTO.getTitle());
         existing.setDescription(eventDTO.getDescription());
@@ -95,13 +141,29 @@ public class OrganizerEventService {
         existing.setPrice(eventDTO.getPrice());
         existing.setCategory(eventDTO.getCategory());
         existing.setImageUrl(eventDTO.getImageUrl());
+        existing.setLatitude(eventDTO.getLatitude());
+        existing.setLongitude(eventDTO.getLongitude());
 
 
         Event updatedEvent = eventRepository.save(existing);
+        if (capacity > oldCapacity) {
+            registrationService.promoteWaitlisted(eventId, capacity - existing.getSeatsTaken());
+        }
+        eventSearchIndex.index(updatedEvent);
+        eventGeoIndex.index(updatedEvent);
+        eventDtoCache.evict(eventId);
         logger.info("Event updated successfully: ID {}", updatedEvent.getEventId());
         return toDto(updatedEvent);
     }
 
+    private static void validateCoordinates(EventDTO eventDTO) {
+        String error = EventGeoIndex.coordinateError(eventDTO.getLatitude(), eventDTO.getLongitude());
+        if (error != null) {
+            logger.warn("Invalid coordinates: {}", error);
+            throw new IllegalArgumentException(error);
+        }
+    }
+
     public void deleteEvent(Long eventId, Long organizerId) {
         logger.info("Deleting event ID: {} by organizer ID: {}", eventId, organizerId);
         Event event = eventRepository.findById(eventId)
@@ -116,19 +178,24 @@ public class OrganizerEventService {
         }
 
         eventRepository.delete(event);
+        reviewStatsService.delete(eventId);
+        eventSearchIndex.remove(eventId);
+        eventGeoIndex.remove(eventId);
+        eventDtoCache.evict(eventId);
         logger.info("Event deleted successfully: ID {}", eventId);
     }
 
     public List<EventDTO> getEventsByOrganizer(Long organizerId) {
         logger.info("Fetching events for organizer ID: {}", organizerId);
-        User organizer = userRepository.findById(organizerId)
-                .orElseThrow(() -> {
-                    logger.error("Organizer with ID {} not found", organizerId);
-                    return new RuntimeException("Organizer not found");
-                });
+        List<Object[]> rows = eventRepository.findByOrganizerWithReviewStats(organizerId);
+        // Only an empty dashboard needs to tell "no events" from "no such organizer"
+        if (rows.isEmpty() && !userRepository.existsById(organizerId)) {
+            logger.error("Organizer with ID {} not found", organizerId);
+            throw new RuntimeException("Organizer not found");
+        }
 
-        List<EventDTO> events = eventRepository.findByOrganizer(organizer).stream()
-                .map(this::toDto)
+        List<EventDTO> events = rows.stream()
+                .map(row -> toDto((Event) row[0], (EventReviewStats) row[1]))
                 .collect(Collectors.toList());
 
         logger.info("Found {} events for organizer ID: {}", events.size(), organizerId);
@@ -137,6 +204,50 @@ public class OrganizerEventService {
 
     public List<ReviewDTO> getEventReviewsWithFeedback(Long eventId, String username) {
         logger.info("Fetching reviews with feedback for event ID: {} by organizer username: {}", eventId, username);
+        checkReviewAccess(eventId, username);
+
+        List<ReviewDTO> reviews = attendeeEventService.getEventReviews(eventId, true);
+
+        logger.info("Found {} reviews for event ID: {}", reviews.size(), eventId);
+        return reviews;
+    }
+
+    public PageDTO<ReviewDTO> getEventReviewsPage(Long eventId, String username, String cursor, Integer size) {
+        checkReviewAccess(eventId, username);
+        return attendeeEventService.getEventReviewsPage(eventId, cursor, size, true);
+    }
+
+    // Walks every review of the event newest first, handing them over in index-backed keyset batches
+    public void forEachReviewBatch(Long eventId, Consumer<List<ReviewDTO>> batchConsumer) {
+        String cursor = null;
+        PageDTO<ReviewDTO> page;
+        do {
+            page = attendeeEventService.getEventReviewsPage(eventId, cursor, EXPORT_BATCH_SIZE, true);
+            batchConsumer.accept(page.getItems());
+            cursor = page.getNextCursor();
+        } while (page.isHasMore());
+    }
+
+    // Feedback is private to the organizer of the event
+    public void checkReviewAccess(Long eventId, String username) {
+        checkOrganizer(eventId, username, "Only the event organizer can view feedback");
+    }
+
+    // So are the attendees' names and emails
+    public void checkAttendeeAccess(Long eventId, String username) {
+        checkOrganizer(eventId, username, "Only the event organizer can view attendees");
+    }
+
+    public PageDTO<AttendeeDTO> getEventAttendeesPage(Long eventId, String username, String cursor, Integer size) {
+        checkAttendeeAccess(eventId, username);
+        return registrationService.getAttendeesPage(eventId, cursor, size);
+    }
+
+    public void forEachAttendeeBatch(Long eventId, Consumer<List<AttendeeDTO>> batchConsumer) {
+        registrationService.forEachAttendeeBatch(eventId, batchConsumer);
+    }
+
+    private void checkOrganizer(Long eventId, String username, String deniedMessage) {
         User organizer = userRepository.findByUserName(username)
                 .orElseThrow(() -> {
                     logger.error("User with username {} not found", username);
@@ -149,47 +260,44 @@ public class OrganizerEventService {
                     return new RuntimeException("Event not found");
                 });
 
-        if (!event.getOrganizer().equals(organizer)) {
-            logger.error("Unauthorized access to reviews by username: {}", username);
-            throw new RuntimeException("Only the event organizer can view feedback");
+        if (!event.getOrganizer().getUserId().equals(organizer.getUserId())) {
+            logger.error("Unauthorized access to event {} by username: {}", eventId, username);
+            throw new RuntimeException(deniedMessage);
         }
-
-        List<ReviewDTO> reviews = reviewRepository.findByEvent_EventId(eventId).stream()
-                .map(review -> convertToReviewDTO(review, true))
-                .collect(Collectors.toList());
-
-        logger.info("Found {} reviews for event ID: {}", reviews.size(), eventId);
-        return reviews;
     }
 
     public ReviewSummaryDTO getEventReviewSummary(Long eventId) {
         logger.info("Fetching review summary for event ID: {}", eventId);
 
-        Integer totalReviews = reviewRepository.countByEvent_EventId(eventId);
+        EventReviewStats stats = reviewStatsService.getStats(eventId);
 
-        logger.info("Summary - Event ID: {}, Total Reviews: {}", eventId, totalReviews != null ? totalReviews : 0);
+        logger.info("Summary - Event ID: {}, Total Reviews: {}", eventId, stats.getReviewCount());
 
-        return new ReviewSummaryDTO(
-                eventId,
-                0.0, // No rating, so default to 0.0
-                totalReviews != null ? totalReviews : 0
-        );
+        return toSummary(stats);
     }
 
-    private ReviewDTO convertToReviewDTO(Review review, boolean showFeedback) {
-        ReviewDTO dto = new ReviewDTO();
-        dto.setReviewId(review.getReviewId());
-        dto.setEventId(review.getEvent().getEventId());
-        dto.setUserId(review.getUser().getUserId());
-        dto.setUserName(review.getUser().getUserName());
-     
-        dto.setFeedback(showFeedback ? review.getFeedback() : null);
-        dto.setCreatedAt(review.getCreatedAt());
-        dto.setShowFeedback(showFeedback);
-        return dto;
+    // Constant time: everything derives from the aggregate's counters and 5-bucket histogram
+    private ReviewSummaryDTO toSummary(EventReviewStats stats) {
+        ReviewSummaryDTO summary = new ReviewSummaryDTO(stats.getEventId(), stats.getAverageRating(), (int) stats.getReviewCount());
+        summary.setRatingCount(stats.getRatingCount());
+        summary.setRatingStdDev(Math.sqrt(stats.getRatingVariance()));
+        summary.setMedianRating(stats.getRatingPercentile(50));
+        summary.setP90Rating(stats.getRatingPercentile(90));
+
+        Map<Integer, Long> histogram = new LinkedHashMap<>();
+        long[] buckets = stats.getHistogram();
+        for (int stars = 1; stars <= buckets.length; stars++) {
+            histogram.put(stars, buckets[stars - 1]);
+        }
+        summary.setHistogram(histogram);
+        return summary;
     }
 
     private EventDTO toDto(Event event) {
+        return toDto(event, reviewStatsService.getStats(event.getEventId()));
+    }
+
+    private EventDTO toDto(Event event, EventReviewStats stats) {
         EventDTO dto = new EventDTO();
         dto.setEventId(event.getEventId());
         dto.setTitle(event.getTitle());
@@ -202,8 +310,12 @@ public class OrganizerEventService {
         dto.setOrganizerId(event.getOrganizer().getUserId());
         dto.setOrganizerName(event.getOrganizer().getUserName());
         dto.setImageUrl(event.getImageUrl());
+        dto.setSeriesId(event.getSeriesId());
+        dto.setLatitude(event.getLatitude());
+        dto.setLongitude(event.getLongitude());
 
-        ReviewSummaryDTO summary = getEventReviewSummary(event.getEventId());
+        // Events without a stats row yet have no reviews recorded
+        ReviewSummaryDTO summary = toSummary(stats != null ? stats : new EventReviewStats(event.getEventId()));
         dto.setAverageRating(summary.getAverageRating());
         dto.setReviewCount(summary.getTotalReviews());
 
@@ -0,0 +1,227 @@
+package com.demo.eventwave.service;
+
+import com.demo.eventwave.dto.EventRegisterResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serializes registrations per event through a lane drained by one worker at a time.
+ * Callers get a future instead of blocking a request thread or a DB connection, and
+ * each drained batch is registered in a single transaction. Lanes are independent,
+ * so a ticket drop on one event does not slow registrations for other events.
+ */
+@Component
+public class RegistrationAdmissionQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(RegistrationAdmissionQueue.class);
+
+    private final RegistrationService registrationService;
+    private final int batchSize;
+    private final int laneCapacity;
+    private final ExecutorService workers;
+    private final Map<Long, Lane> lanes = new ConcurrentHashMap<>();
+
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    public RegistrationAdmissionQueue(RegistrationService registrationService,
+                                      @Value("${eventwave.registration.queue.workers:4}") int workerCount,
+                                      @Value("${eventwave.registration.queue.batch-size:100}") int batchSize,
+                                      @Value("${eventwave.registration.queue.capacity:10000}") int laneCapacity,
+                                      MeterRegistry meterRegistry) {
+        this.registrationService = registrationService;
+        this.batchSize = batchSize;
+        this.laneCapacity = laneCapacity;
+        this.waitTimer = Timer.builder("eventwave.registration.queue.wait")
+                .description("Time from submission to the registration batch being committed")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejected = Counter.builder("eventwave.registration.queue.rejected")
+                .description("Registrations turned away because the event's lane was full")
+                .register(meterRegistry);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "registration-queue-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues a registration; the future completes once its batch is committed.
+     * Completes exceptionally with {@link QueueFullException} if the event's lane is at capacity.
+     */
+    public CompletableFuture<EventRegisterResponse> submit(Long userId, Long eventId) {
+        Pending pending = new Pending(userId);
+        AtomicBoolean accepted = new AtomicBoolean();
+        // Offer while holding the map entry, so a drainer can never drop the lane between lookup and offer
+        Lane lane = lanes.compute(eventId, (id, existing) -> {
+            Lane current = existing != null ? existing : new Lane(id);
+            accepted.set(current.pending.offer(pending));
+            return current;
+        });
+        if (!accepted.get()) {
+            logger.warn("Registration queue for event {} is full ({} waiting)", eventId, laneCapacity);
+            rejected.increment();
+            return CompletableFuture.failedFuture(new QueueFullException(eventId));
+        }
+        schedule(lane);
+        return pending.result;
+    }
+
+    public int queueDepth(Long eventId) {
+        Lane lane = lanes.get(eventId);
+        return lane == null ? 0 : lane.pending.size();
+    }
+
+    public QueueStats stats() {
+        Map<Long, Integer> depths = new LinkedHashMap<>();
+        lanes.forEach((eventId, lane) -> {
+            int depth = lane.pending.size();
+            if (depth > 0) {
+                depths.put(eventId, depth);
+            }
+        });
+        long count = processed.get();
+        return new QueueStats(depths, count,
+                count == 0 ? 0 : totalWaitNanos.get() / count / 1_000_000,
+                maxWaitNanos.get() / 1_000_000);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    private void schedule(Lane lane) {
+        if (lane.draining.compareAndSet(false, true)) {
+            workers.execute(() -> drainOnce(lane));
+        }
+    }
+
+    // One batch per task, then yield so busy lanes take turns on the worker pool
+    private void drainOnce(Lane lane) {
+        try {
+            List<Pending> batch = new ArrayList<>(batchSize);
+            lane.pending.drainTo(batch, batchSize);
+            if (!batch.isEmpty()) {
+                process(lane.eventId, batch);
+            }
+        } finally {
+            lane.draining.set(false);
+            // Drop an idle lane under the same map lock submit offers under; otherwise a submitter
+            // could queue into a dropped lane while the next one opens a second lane for the event
+            Lane kept = lanes.compute(lane.eventId, (id, current) ->
+                    current == lane && lane.pending.isEmpty() && !lane.draining.get() ? null : current);
+            if (kept == lane && !lane.pending.isEmpty()) {
+                schedule(lane);
+            }
+        }
+    }
+
+    private void process(Long eventId, List<Pending> batch) {
+        Set<Long> userIds = new LinkedHashSet<>();
+        batch.forEach(pending -> userIds.add(pending.userId));
+        try {
+            Map<Long, EventRegisterResponse> results = registrationService.registerBatch(eventId, userIds);
+            long now = System.nanoTime();
+            for (Pending pending : batch) {
+                recordWait(now - pending.enqueuedAt);
+                pending.result.complete(results.get(pending.userId));
+            }
+        } catch (RuntimeException e) {
+            logger.error("Registration batch for event {} failed: {}", eventId, e.getMessage());
+            batch.forEach(pending -> pending.result.completeExceptionally(e));
+        }
+    }
+
+    private void recordWait(long waitNanos) {
+        processed.incrementAndGet();
+        totalWaitNanos.addAndGet(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+        waitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private final class Lane {
+        private final Long eventId;
+        private final BlockingQueue<Pending> pending = new ArrayBlockingQueue<>(laneCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        Lane(Long eventId) {
+            this.eventId = eventId;
+        }
+    }
+
+    private static final class Pending {
+        private final Long userId;
+        private final long enqueuedAt = System.nanoTime();
+        private final CompletableFuture<EventRegisterResponse> result = new CompletableFuture<>();
+
+        Pending(Long userId) {
+            this.userId = userId;
+        }
+    }
+
+    public static class QueueFullException extends RuntimeException {
+        public QueueFullException(Long eventId) {
+            super("Registration queue is full for event " + eventId);
+        }
+    }
+
+    public static class QueueStats {
+        private final Map<Long, Integer> depthByEvent;
+        private final long processed;
+        private final long averageWaitMillis;
+        private final long maxWaitMillis;
+
+        public QueueStats(Map<Long, Integer> depthByEvent, long processed, long averageWaitMillis, long maxWaitMillis) {
+            this.depthByEvent = depthByEvent;
+            this.processed = processed;
+            this.averageWaitMillis = averageWaitMillis;
+            this.maxWaitMillis = maxWaitMillis;
+        }
+
+        public Map<Long, Integer> getDepthByEvent() {
+            return depthByEvent;
+        }
+
+        public long getProcessed() {
+            return processed;
+        }
+
+        public long getAverageWaitMillis() {
+            return averageWaitMillis;
+        }
+
+        public long getMaxWaitMillis() {
+            return maxWaitMillis;
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.demo.eventwave.service;
 
+import com.demo.eventwave.dto.AttendeeDTO;
 import com.demo.eventwave.dto.EventDTO;
 import com.demo.eventwave.dto.EventRegisterResponse;
+import com.demo.eventwave.dto.PageDTO;
+import com.demo.eventwave.dto.RegistrationOutcome;
 import com.demo.eventwave.dto.UserDTO;
 import com.demo.eventwave.entity.Event;
 import com.demo.eventwave.entity.Registration;
@@ -10,20 +13,36 @@ import com.demo.eventwave.entity.User;
 import com.demo.eventwave.repository.EventRepository;
 import com.demo.eventwave.repository.RegistrationRepository;
 import com.demo.eventwave.repository.UserRepository;
+import com.demo.eventwave.util.CursorCodec;
 
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Service
+@Timed(value = "eventwave.service", histogram = true)
 public class RegistrationService {
 
     private static final Logger logger = LoggerFactory.getLogger(RegistrationService.class);
 
+    private static final int EXPORT_BATCH_SIZE = 500;
+
+    private static final String WAITLISTED_MESSAGE = "Event is full. You have been added to the waitlist.";
+
     @Autowired
     private RegistrationRepository registrationRepository;
 
@@ -33,7 +52,11 @@ public class RegistrationService {
     @Autowired
     private EventRepository eventRepository;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     // Updated: Now returns user and event details along with message
+    @Transactional
     public EventRegisterResponse registerUserForEvent(Long userId, Long eventId) {
         logger.info("Attempting to register user ID={} for event ID={}", userId, eventId);
 
@@ -47,33 +70,106 @@ public class RegistrationService {
             throw new RuntimeException("Event not found.");
         });
 
-        if (registrationRepository.findByUserAndEvent(user, event).isPresent()) {
+        Optional<Registration> existing = registrationRepository.findByUserAndEvent(user, event);
+        if (existing.isPresent()) {
             logger.warn("User {} already registered for event {}", userId, eventId);
-            return new EventRegisterResponse("Already registered.", toUserDTO(user), toEventDTO(event));
-        }
-
-        long currentCount = registrationRepository.countByEvent(event);
-        if (currentCount >= event.getCapacity()) {
-            logger.warn("Event {} is full. Capacity: {}", eventId, event.getCapacity());
-            return new EventRegisterResponse("Event is full.", toUserDTO(user), toEventDTO(event));
+            String message = existing.get().getStatus() == RegistrationStatus.WAITLISTED
+                    ? "Already on the waitlist." : "Already registered.";
+            return counted(new EventRegisterResponse(RegistrationOutcome.ALREADY_REGISTERED, message, toUserDTO(user), toEventDTO(event)));
         }
 
         Registration registration = new Registration();
         registration.setUser(user);
         registration.setEvent(event);
+
+        // Conditional UPDATE on seats_taken: the row lock makes check-and-claim atomic, no COUNT(*) needed
+        if (eventRepository.reserveSeat(eventId) == 0) {
+            logger.warn("Event {} is full. Capacity: {}. Adding user {} to the waitlist", eventId, event.getCapacity(), userId);
+            registration.setStatus(RegistrationStatus.WAITLISTED);
+            registrationRepository.save(registration);
+            return counted(new EventRegisterResponse(RegistrationOutcome.WAITLISTED, WAITLISTED_MESSAGE, toUserDTO(user), toEventDTO(event)));
+        }
+
         registration.setStatus(RegistrationStatus.CONFIRMED);
         registrationRepository.save(registration);
 
         logger.info("User {} ({}) registered for event {} ({})", 
             user.getUserName(), user.getEmail(), event.getTitle(), event.getLocation());
 
-        return new EventRegisterResponse("Registration successful.", toUserDTO(user), toEventDTO(event));
+        return counted(new EventRegisterResponse(RegistrationOutcome.CONFIRMED, "Registration successful.", toUserDTO(user), toEventDTO(event)));
+    }
+
+    /**
+     * Registers a batch of users for one event in a single transaction.
+     * Used by the admission queue; results are keyed by user ID.
+     */
+    @Transactional
+    public Map<Long, EventRegisterResponse> registerBatch(Long eventId, Collection<Long> userIds) {
+        logger.info("Registering batch of {} users for event ID={}", userIds.size(), eventId);
+
+        Event event = eventRepository.findById(eventId).orElseThrow(() -> {
+            logger.error("Event with ID {} not found", eventId);
+            return new RuntimeException("Event not found.");
+        });
+        EventDTO eventDTO = toEventDTO(event);
+
+        Map<Long, User> users = new HashMap<>();
+        userRepository.findAllById(userIds).forEach(user -> users.put(user.getUserId(), user));
+        Map<Long, RegistrationStatus> existing = registrationRepository.findRegistrationStatuses(eventId, userIds);
+
+        Map<Long, EventRegisterResponse> results = new LinkedHashMap<>();
+        List<User> newcomers = new ArrayList<>();
+        for (Long userId : userIds) {
+            User user = users.get(userId);
+            if (user == null) {
+                results.put(userId, new EventRegisterResponse(RegistrationOutcome.REJECTED, "User not found.", null, eventDTO));
+            } else if (existing.containsKey(userId) || results.containsKey(userId)) {
+                String message = existing.get(userId) == RegistrationStatus.WAITLISTED
+                        ? "Already on the waitlist." : "Already registered.";
+                results.put(userId, new EventRegisterResponse(RegistrationOutcome.ALREADY_REGISTERED,
+                        message, toUserDTO(user), eventDTO));
+            } else {
+                newcomers.add(user);
+                results.put(userId, null);
+            }
+        }
+
+        // Claim all seats in one UPDATE; fall back to one at a time when fewer remain
+        int granted = 0;
+        if (!newcomers.isEmpty() && eventRepository.reserveSeats(eventId, newcomers.size()) == 1) {
+            granted = newcomers.size();
+        } else {
+            while (granted < newcomers.size() && eventRepository.reserveSeat(eventId) == 1) {
+                granted++;
+            }
+        }
+
+        // Saved in queue order, so waitlist positions follow arrival order
+        List<Registration> registrations = new ArrayList<>(newcomers.size());
+        for (int i = 0; i < newcomers.size(); i++) {
+            User user = newcomers.get(i);
+            if (i < granted) {
+                registrations.add(new Registration(null, user, event, RegistrationStatus.CONFIRMED));
+                results.put(user.getUserId(), new EventRegisterResponse(RegistrationOutcome.CONFIRMED,
+                        "Registration successful.", toUserDTO(user), eventDTO));
+            } else {
+                registrations.add(new Registration(null, user, event, RegistrationStatus.WAITLISTED));
+                results.put(user.getUserId(), new EventRegisterResponse(RegistrationOutcome.WAITLISTED,
+                        WAITLISTED_MESSAGE, toUserDTO(user), eventDTO));
+            }
+        }
+        registrationRepository.saveAll(registrations);
+        results.values().forEach(this::counted);
+
+        logger.info("Batch for event {}: {} confirmed, {} waitlisted", eventId, granted, newcomers.size() - granted);
+        return results;
     }
 
     public Optional<Registration> getRegistrationById(Long registrationId) {
         return registrationRepository.findById(registrationId);
     }
 
+    @Transactional
     public String unregisterUserFromEvent(Long userId, Long eventId) {
         logger.info("Attempting to unregister user ID={} from event ID={}", userId, eventId);
 
@@ -93,11 +189,54 @@ public class RegistrationService {
                     return new RuntimeException("Registration not found.");
                 });
 
+        if (reg.getStatus() != RegistrationStatus.CONFIRMED) {
+            registrationRepository.delete(reg);
+            logger.info("User {} left the waitlist for event {}", userId, eventId);
+            return "Removed from waitlist.";
+        }
+
+        // Release first: the event row lock it takes serializes cancellations and new
+        // registrations, so the freed seat goes to the waitlist head before anyone else sees it
+        eventRepository.releaseSeat(eventId);
         registrationRepository.delete(reg);
+        promoteFromWaitlist(eventId);
         logger.info("User {} successfully unregistered from event {}", userId, eventId);
         return "Unregistered successfully.";
     }
 
+    /**
+     * Confirms up to {@code seats} waitlisted registrations, earliest first, after the event's
+     * capacity grew. Joins the caller's transaction; returns how many were promoted.
+     */
+    @Transactional
+    public int promoteWaitlisted(Long eventId, int seats) {
+        int promoted = 0;
+        while (promoted < seats && promoteFromWaitlist(eventId)) {
+            promoted++;
+        }
+        if (promoted > 0) {
+            logger.info("Promoted {} waitlisted registrations for event {}", promoted, eventId);
+        }
+        return promoted;
+    }
+
+    // Hands a free seat to the earliest waitlisted registration; false when there is none or no seat
+    private boolean promoteFromWaitlist(Long eventId) {
+        Registration next = registrationRepository
+                .findFirstByEvent_EventIdAndStatusOrderByRegistrationIdAsc(eventId, RegistrationStatus.WAITLISTED)
+                .orElse(null);
+        if (next == null) {
+            return false;
+        }
+        if (eventRepository.reserveSeat(eventId) == 0) {
+            logger.warn("No seat available to promote registration {} for event {}", next.getRegistrationId(), eventId);
+            return false;
+        }
+        next.setStatus(RegistrationStatus.CONFIRMED);
+        logger.info("Promoted user {} from the waitlist for event {}", next.getUser().getUserId(), eventId);
+        return true;
+    }
+
     public List<UserDTO> getAttendeesForEvent(Long eventId) {
         logger.info("Fetching attendees for event ID {}", eventId);
 
@@ -106,7 +245,7 @@ public class RegistrationService {
             throw new RuntimeException("Event not found.");
         });
 
-        List<UserDTO> attendees = registrationRepository.findByEvent(event)
+        List<UserDTO> attendees = registrationRepository.findByEventAndStatus(event, RegistrationStatus.CONFIRMED)
                 .stream()
                 .map(reg -> new UserDTO(reg.getUser().getUserId(),
                         reg.getUser().getUserName(),
@@ -117,6 +256,55 @@ public class RegistrationService {
         return attendees;
     }
 
+    // Confirmed attendees in registration order, one keyset page at a time
+    public PageDTO<AttendeeDTO> getAttendeesPage(Long eventId, String cursor, Integer size) {
+        // The cursor is the registration_id of the last attendee on the page
+        Long afterId = CursorCodec.decode(cursor, 1, fields -> Long.valueOf(fields[0]));
+        return attendeePage(eventId, afterId, AttendeeEventService.pageSize(size));
+    }
+
+    // Walks every confirmed attendee in keyset batches; nothing is held open between batches, so memory
+    // and connection use stay flat however large the event
+    public void forEachAttendeeBatch(Long eventId, Consumer<List<AttendeeDTO>> batchConsumer) {
+        Long afterId = null;
+        PageDTO<AttendeeDTO> page;
+        do {
+            page = attendeePage(eventId, afterId, EXPORT_BATCH_SIZE);
+            batchConsumer.accept(page.getItems());
+            afterId = page.getItems().isEmpty() ? null : page.getItems().get(page.getItems().size() - 1).getRegistrationId();
+        } while (page.isHasMore());
+    }
+
+    private PageDTO<AttendeeDTO> attendeePage(Long eventId, Long afterId, int pageSize) {
+        List<AttendeeDTO> rows = registrationRepository.findAttendeePageAfter(eventId, RegistrationStatus.CONFIRMED,
+                afterId, Limit.of(pageSize + 1));
+        return PageDTO.of(rows, pageSize, last -> CursorCodec.encode(last.getRegistrationId()));
+    }
+
+    // Waitlisted users in promotion order
+    public List<UserDTO> getWaitlistForEvent(Long eventId) {
+        logger.info("Fetching waitlist for event ID {}", eventId);
+
+        Event event = eventRepository.findById(eventId).orElseThrow(() -> {
+            logger.error("Event with ID {} not found", eventId);
+            return new RuntimeException("Event not found.");
+        });
+
+        List<UserDTO> waitlist = registrationRepository.findByEventAndStatusOrderByRegistrationIdAsc(event, RegistrationStatus.WAITLISTED)
+                .stream()
+                .map(reg -> toUserDTO(reg.getUser()))
+                .toList();
+
+        logger.info("Found {} waitlisted users for event {}", waitlist.size(), eventId);
+        return waitlist;
+    }
+
+    // eventwave.registrations by outcome: a drop in confirmed against waitlisted/already_registered is what a ticket drop looks like
+    private EventRegisterResponse counted(EventRegisterResponse response) {
+        meterRegistry.counter("eventwave.registrations", "outcome", response.getOutcome().name().toLowerCase()).increment();
+        return response;
+    }
+
     // Helper methods to convert entity to DTO
     private UserDTO toUserDTO(User user) {
         return new UserDTO(user.getUserId(), user.getUserName(), user.getEmail());
@@ -0,0 +1,77 @@
+package com.demo.eventwave.service;
+
+import com.demo.eventwave.entity.EventReviewStats;
+import com.demo.eventwave.repository.EventReviewStatsRepository;
+import com.demo.eventwave.repository.ReviewRepository;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Maintains the per-event review aggregate. Every write goes through here so the
+ * aggregate stays in step with the reviews table.
+ */
+@Service
+public class ReviewStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewStatsService.class);
+
+    private static final String INSERT_STATS = "INSERT INTO event_review_stats (event_id, review_count, rating_count, " +
+            "rating_sum, rating_sum_squares, stars_1, stars_2, stars_3, stars_4, stars_5) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private EventReviewStatsRepository statsRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public void initialize(Long eventId) {
+        statsRepository.save(new EventReviewStats(eventId));
+    }
+
+    // O(1) per review. Call after the review row is saved, inside the same transaction;
+    // a null rating counts the review without rating it.
+    @Transactional
+    public void recordReview(Long eventId, Integer rating) {
+        int stars = rating != null ? rating : 0;
+        if (statsRepository.recordReview(eventId, stars) > 0) {
+            return;
+        }
+        // Event created before aggregates existed: seed it once from the reviews table,
+        // which already includes the review just saved
+        logger.info("Seeding review stats for event ID: {}", eventId);
+        EventReviewStats stats = new EventReviewStats(eventId);
+        for (Object[] row : reviewRepository.countByRating(eventId)) {
+            long reviews = (Long) row[1];
+            stats.setReviewCount(stats.getReviewCount() + reviews);
+            if (row[0] != null) {
+                stats.addRating((Integer) row[0], reviews);
+            }
+        }
+        // Plain JDBC so a duplicate key fails only this statement, not the caller's transaction
+        try {
+            jdbcTemplate.update(INSERT_STATS, eventId, stats.getReviewCount(), stats.getRatingCount(), stats.getRatingSum(),
+                    stats.getRatingSumSquares(), stats.getStars1(), stats.getStars2(), stats.getStars3(),
+                    stats.getStars4(), stats.getStars5());
+        } catch (DuplicateKeyException e) {
+            // A concurrent review seeded it first, from rows that could not include this uncommitted one
+            logger.info("Review stats for event ID {} were seeded concurrently; adding this review to them", eventId);
+            statsRepository.recordReview(eventId, stars);
+        }
+    }
+
+    public EventReviewStats getStats(Long eventId) {
+        return statsRepository.findById(eventId).orElseGet(() -> new EventReviewStats(eventId));
+    }
+
+    public void delete(Long eventId) {
+        statsRepository.deleteById(eventId);
+    }
+}
@@ -7,6 +7,7 @@ import com.demo.eventwave.entity.Wishlist;
 import com.demo.eventwave.repository.EventRepository;
 import com.demo.eventwave.repository.UserRepository;
 import com.demo.eventwave.repository.WishlistRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,6 +19,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "eventwave.service", histogram = true)
 public class WishlistService {
 
     private static final Logger logger = LoggerFactory.getLogger(WishlistService.class);
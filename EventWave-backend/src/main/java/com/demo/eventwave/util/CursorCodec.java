@@ -0,0 +1,44 @@
+package com.demo.eventwave.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Wire form of the keyset cursors handed out by the paginated endpoints: the key fields of
+ * the last row on a page, joined by '|' and Base64url-encoded. Clients only ever see the
+ * encoded form and must treat it as opaque.
+ */
+public final class CursorCodec {
+
+    private CursorCodec() {
+    }
+
+    public static String encode(Object... fields) {
+        String raw = Arrays.stream(fields).map(String::valueOf).collect(Collectors.joining("|"));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Null for a missing or blank cursor (the first page). Anything that does not decode to
+     * {@code fieldCount} fields the parser accepts is an IllegalArgumentException "Invalid cursor".
+     */
+    public static <T> T decode(String cursor, int fieldCount, Function<String[], T> parser) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] fields = raw.split("\\|", -1);
+            if (fields.length != fieldCount) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return parser.apply(fields);
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
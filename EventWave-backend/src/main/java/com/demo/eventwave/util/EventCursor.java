@@ -0,0 +1,57 @@
+package com.demo.eventwave.util;
+
+import java.time.LocalDateTime;
+
+/**
+ * Position of the last event on a catalog page, i.e. the (date_time, event_id) keyset.
+ * When the page ended on a series occurrence that has no row yet, the position is
+ * (date_time, series_id) instead: at equal date_time, events sort before occurrences,
+ * and occurrences by series. Encoded by {@link CursorCodec}.
+ */
+public final class EventCursor {
+
+    private final LocalDateTime dateTime;
+    private final Long eventId;
+    private final Long seriesId;
+
+    public EventCursor(LocalDateTime dateTime, Long eventId) {
+        this(dateTime, eventId, null);
+    }
+
+    private EventCursor(LocalDateTime dateTime, Long eventId, Long seriesId) {
+        this.dateTime = dateTime;
+        this.eventId = eventId;
+        this.seriesId = seriesId;
+    }
+
+    public static EventCursor atOccurrence(LocalDateTime dateTime, Long seriesId) {
+        return new EventCursor(dateTime, null, seriesId);
+    }
+
+    public LocalDateTime getDateTime() {
+        return dateTime;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    // Null unless the cursor sits on an occurrence without a row
+    public Long getSeriesId() {
+        return seriesId;
+    }
+
+    public String encode() {
+        return CursorCodec.encode(dateTime, seriesId != null ? "s" + seriesId : eventId);
+    }
+
+    // Null for the first page
+    public static EventCursor decode(String cursor) {
+        return CursorCodec.decode(cursor, 2, fields -> {
+            LocalDateTime dateTime = LocalDateTime.parse(fields[0]);
+            return fields[1].startsWith("s")
+                    ? atOccurrence(dateTime, Long.valueOf(fields[1].substring(1)))
+                    : new EventCursor(dateTime, Long.valueOf(fields[1]));
+        });
+    }
+}
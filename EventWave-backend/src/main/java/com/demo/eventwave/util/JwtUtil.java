@@ -7,6 +7,7 @@ import org.springframework.stereotype.Component;
 import java.security.Key;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 
 @Component
 public class JwtUtil {
@@ -14,8 +15,12 @@ public class JwtUtil {
     private final String SECRET_KEY = "afafasfafafasfasfasfafacasdasfasxASFACASDFACASDFASFASFDAFASFASDAADSCSDFADCVSGCFVADXCcadwavfsfarvf";
     private final long EXPIRATION_TIME = 5 * 60 * 60 * 1000; // 5 hours
 
+    // Key and parser are immutable and thread-safe, so both are built once
+    private final Key signKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+    private final JwtParser parser = Jwts.parserBuilder().setSigningKey(signKey).build();
+
     private Key getSignKey() {
-        return Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+        return signKey;
     }
 
     // ✅ Generate token with 'role' and 'authorities'
@@ -39,19 +44,19 @@ public class JwtUtil {
     }
 
     public Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
     public boolean validateToken(String token) {
+        return verifyToken(token).isPresent();
+    }
+
+    // Single parse: verifies the signature and expiry and returns the claims, or empty if invalid
+    public Optional<Claims> verifyToken(String token) {
         try {
-            getClaims(token); // throws if invalid
-            return true;
+            return Optional.of(getClaims(token));
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
 }
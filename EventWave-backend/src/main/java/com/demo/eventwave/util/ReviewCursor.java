@@ -0,0 +1,36 @@
+package com.demo.eventwave.util;
+
+import java.time.LocalDateTime;
+
+/**
+ * Position of the last review on a newest-first review page, i.e. the (created_at, review_id) keyset.
+ * Encoded by {@link CursorCodec}.
+ */
+public final class ReviewCursor {
+
+    private final LocalDateTime createdAt;
+    private final Long reviewId;
+
+    public ReviewCursor(LocalDateTime createdAt, Long reviewId) {
+        this.createdAt = createdAt;
+        this.reviewId = reviewId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public Long getReviewId() {
+        return reviewId;
+    }
+
+    public String encode() {
+        return CursorCodec.encode(createdAt, reviewId);
+    }
+
+    // Null for the first page
+    public static ReviewCursor decode(String cursor) {
+        return CursorCodec.decode(cursor, 2,
+                fields -> new ReviewCursor(LocalDateTime.parse(fields[0]), Long.valueOf(fields[1])));
+    }
+}
@@ -0,0 +1,60 @@
+-- Schema that ddl-auto=update produced for the entities before migrations were introduced.
+-- Existing databases are baselined at this version (spring.flyway.baseline-on-migrate) and
+-- only run the migrations after it, so everything added since belongs in V2 onwards.
+
+CREATE TABLE users (
+    user_id   BIGINT       NOT NULL AUTO_INCREMENT,
+    user_name VARCHAR(255) NOT NULL,
+    email     VARCHAR(255) NOT NULL,
+    password  VARCHAR(255) NOT NULL,
+    role      VARCHAR(32)  NOT NULL,
+    PRIMARY KEY (user_id),
+    CONSTRAINT uk_users_user_name UNIQUE (user_name)
+);
+
+CREATE TABLE events (
+    event_id     BIGINT         NOT NULL AUTO_INCREMENT,
+    title        VARCHAR(255)   NOT NULL,
+    description  TEXT,
+    date_time    DATETIME(6)    NOT NULL,
+    location     VARCHAR(255)   NOT NULL,
+    capacity     INT            NOT NULL,
+    price        DECIMAL(38, 2) NOT NULL,
+    organizer_id BIGINT,
+    category     VARCHAR(32)    NOT NULL,
+    image_url    VARCHAR(255),
+    PRIMARY KEY (event_id),
+    CONSTRAINT fk_events_organizer FOREIGN KEY (organizer_id) REFERENCES users (user_id)
+);
+
+CREATE TABLE registrations (
+    registration_id BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id         BIGINT      NOT NULL,
+    event_id        BIGINT      NOT NULL,
+    status          VARCHAR(32) NOT NULL,
+    PRIMARY KEY (registration_id),
+    CONSTRAINT uk_registrations_user_event UNIQUE (user_id, event_id),
+    CONSTRAINT fk_registrations_user FOREIGN KEY (user_id) REFERENCES users (user_id),
+    CONSTRAINT fk_registrations_event FOREIGN KEY (event_id) REFERENCES events (event_id)
+);
+
+CREATE TABLE reviews (
+    review_id  BIGINT      NOT NULL AUTO_INCREMENT,
+    event_id   BIGINT      NOT NULL,
+    user_id    BIGINT      NOT NULL,
+    feedback   TEXT,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (review_id),
+    CONSTRAINT fk_reviews_event FOREIGN KEY (event_id) REFERENCES events (event_id),
+    CONSTRAINT fk_reviews_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+);
+
+CREATE TABLE wishlists (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT      NOT NULL,
+    event_id   BIGINT      NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_wishlists_user FOREIGN KEY (user_id) REFERENCES users (user_id),
+    CONSTRAINT fk_wishlists_event FOREIGN KEY (event_id) REFERENCES events (event_id)
+);
@@ -0,0 +1,24 @@
+-- Rows written before the seat counter and review aggregates existed have them at zero / missing.
+
+UPDATE events e
+SET seats_taken = (SELECT COUNT(*)
+                   FROM registrations r
+                   WHERE r.event_id = e.event_id
+                     AND r.status = 'CONFIRMED');
+
+INSERT INTO event_review_stats (event_id, review_count, rating_count, rating_sum, rating_sum_squares,
+                                stars_1, stars_2, stars_3, stars_4, stars_5)
+SELECT e.event_id,
+       COUNT(r.review_id),
+       COUNT(r.rating),
+       COALESCE(SUM(r.rating), 0),
+       COALESCE(SUM(r.rating * r.rating), 0),
+       COALESCE(SUM(CASE WHEN r.rating = 1 THEN 1 ELSE 0 END), 0),
+       COALESCE(SUM(CASE WHEN r.rating = 2 THEN 1 ELSE 0 END), 0),
+       COALESCE(SUM(CASE WHEN r.rating = 3 THEN 1 ELSE 0 END), 0),
+       COALESCE(SUM(CASE WHEN r.rating = 4 THEN 1 ELSE 0 END), 0),
+       COALESCE(SUM(CASE WHEN r.rating = 5 THEN 1 ELSE 0 END), 0)
+FROM events e
+         LEFT JOIN reviews r ON r.event_id = e.event_id
+WHERE NOT EXISTS (SELECT 1 FROM event_review_stats s WHERE s.event_id = e.event_id)
+GROUP BY e.event_id;
@@ -0,0 +1,28 @@
+-- Recurring event series. Occurrences are expanded on read; an occurrence only gets an
+-- events row once someone registers for it, linked back through events.series_id.
+
+CREATE TABLE event_series (
+    series_id    BIGINT         NOT NULL AUTO_INCREMENT,
+    title        VARCHAR(255)   NOT NULL,
+    description  TEXT,
+    location     VARCHAR(255)   NOT NULL,
+    capacity     INT            NOT NULL,
+    price        DECIMAL(38, 2) NOT NULL,
+    organizer_id BIGINT,
+    category     VARCHAR(32)    NOT NULL,
+    image_url    VARCHAR(255),
+    first_start  DATETIME(6)    NOT NULL,
+    frequency    VARCHAR(16)    NOT NULL,
+    repeat_every INT            NOT NULL,
+    repeat_until DATETIME(6)    NOT NULL,
+    PRIMARY KEY (series_id),
+    CONSTRAINT fk_event_series_organizer FOREIGN KEY (organizer_id) REFERENCES users (user_id)
+);
+
+-- Series still running in a catalog or date-range window
+CREATE INDEX idx_event_series_until ON event_series (repeat_until, first_start);
+
+ALTER TABLE events ADD COLUMN series_id BIGINT NULL;
+ALTER TABLE events ADD CONSTRAINT fk_events_series FOREIGN KEY (series_id) REFERENCES event_series (series_id);
+-- At most one row per occurrence, and the lookup of occurrences already materialized in a window
+ALTER TABLE events ADD CONSTRAINT uk_events_series_occurrence UNIQUE (series_id, date_time);
@@ -0,0 +1,8 @@
+-- Map position of events and series (WGS84 degrees), both null when unknown. Radius and
+-- bounding-box searches run against the in-memory EventGeoIndex, so no spatial index here.
+
+ALTER TABLE events ADD COLUMN latitude DOUBLE NULL;
+ALTER TABLE events ADD COLUMN longitude DOUBLE NULL;
+
+ALTER TABLE event_series ADD COLUMN latitude DOUBLE NULL;
+ALTER TABLE event_series ADD COLUMN longitude DOUBLE NULL;
@@ -0,0 +1,168 @@
+package com.demo.eventwave.benchmark;
+
+import com.demo.eventwave.entity.EventCategory;
+import com.demo.eventwave.search.EventGeoIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares EventGeoIndex against what the database can do without spatial support: the
+ * LIKE '%city%' match filterByLocation runs today, and a latitude/longitude BETWEEN box on
+ * a composite index, on an embedded H2 table of the given size. Most events sit in
+ * clusters around the cities of {@link EventSearchBenchmark#CITIES}, the rest anywhere in
+ * India, and queries are centred on a city, so they land where events are densest.
+ *
+ * Run with:
+ *   mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+ *       -Dexec.args="-cp %classpath org.openjdk.jmh.Main EventGeoBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx4g"})
+public class EventGeoBenchmark {
+
+    // Same order as EventSearchBenchmark.CITIES
+    static final double[][] CITY_COORDINATES = {
+            {12.9716, 77.5946}, {12.2958, 76.6394}, {13.0827, 80.2707}, {17.3850, 78.4867},
+            {18.5204, 73.8567}, {19.0760, 72.8777}, {28.6139, 77.2090}, {9.9312, 76.2673}
+    };
+    private static final double RADIUS_KM = 10;
+    private static final double VIEWPORT_DEGREES = 0.1;
+    private static final LocalDateTime NOW = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Param({"10000", "100000", "1000000"})
+    public int events;
+
+    private Connection connection;
+    private PreparedStatement likeLocation;
+    private PreparedStatement boundingBox;
+    private EventGeoIndex index;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:geo_bench_" + events + ";DB_CLOSE_DELAY=-1");
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE IF EXISTS events");
+            ddl.execute("CREATE TABLE events (event_id BIGINT PRIMARY KEY, location VARCHAR(255) NOT NULL, " +
+                    "latitude DOUBLE, longitude DOUBLE, category VARCHAR(32) NOT NULL, date_time TIMESTAMP NOT NULL)");
+        }
+
+        index = new EventGeoIndex();
+        EventCategory[] categories = EventCategory.values();
+        Random random = new Random(42);
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO events (event_id, location, latitude, longitude, category, date_time) VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (long id = 1; id <= events; id++) {
+                int city = random.nextInt(CITY_COORDINATES.length);
+                double latitude;
+                double longitude;
+                if (random.nextInt(5) > 0) {
+                    // About 80% within a few tens of km of a city centre
+                    latitude = CITY_COORDINATES[city][0] + random.nextGaussian() * 0.15;
+                    longitude = CITY_COORDINATES[city][1] + random.nextGaussian() * 0.15;
+                } else {
+                    latitude = 8 + random.nextDouble() * 27;
+                    longitude = 68 + random.nextDouble() * 29;
+                }
+                EventCategory category = categories[random.nextInt(categories.length)];
+                LocalDateTime dateTime = NOW.plusMinutes(random.nextInt(365 * 24 * 60));
+                insert.setLong(1, id);
+                insert.setString(2, EventSearchBenchmark.CITIES[city]);
+                insert.setDouble(3, latitude);
+                insert.setDouble(4, longitude);
+                insert.setString(5, category.name());
+                insert.setObject(6, dateTime);
+                insert.addBatch();
+                if (id % 1000 == 0) {
+                    insert.executeBatch();
+                }
+                index.index(id, latitude, longitude, category, dateTime);
+            }
+            insert.executeBatch();
+        }
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("CREATE INDEX idx_events_lat_lng ON events (latitude, longitude)");
+        }
+        connection.commit();
+
+        likeLocation = connection.prepareStatement("SELECT event_id FROM events WHERE UPPER(location) LIKE UPPER(?)");
+        boundingBox = connection.prepareStatement("SELECT event_id, latitude, longitude FROM events " +
+                "WHERE latitude BETWEEN ? AND ? AND longitude BETWEEN ? AND ?");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE events");
+        }
+        connection.close();
+    }
+
+    // What filterByLocation does today: every event whose location mentions the city
+    @Benchmark
+    public void likeOnLocation(Blackhole blackhole) throws SQLException {
+        likeLocation.setString(1, "%" + EventSearchBenchmark.CITIES[nextCity()] + "%");
+        try (ResultSet rs = likeLocation.executeQuery()) {
+            while (rs.next()) {
+                blackhole.consume(rs.getLong(1));
+            }
+        }
+    }
+
+    // The box around a 10 km circle on the (latitude, longitude) index; the distance check still left to do
+    @Benchmark
+    public void sqlBoundingBox(Blackhole blackhole) throws SQLException {
+        double[] centre = CITY_COORDINATES[nextCity()];
+        double dLatitude = RADIUS_KM / 111.195;
+        double dLongitude = dLatitude / Math.cos(Math.toRadians(centre[0]));
+        boundingBox.setDouble(1, centre[0] - dLatitude);
+        boundingBox.setDouble(2, centre[0] + dLatitude);
+        boundingBox.setDouble(3, centre[1] - dLongitude);
+        boundingBox.setDouble(4, centre[1] + dLongitude);
+        try (ResultSet rs = boundingBox.executeQuery()) {
+            while (rs.next()) {
+                blackhole.consume(rs.getLong(1) + rs.getDouble(2) + rs.getDouble(3));
+            }
+        }
+    }
+
+    @Benchmark
+    public void indexRadius(Blackhole blackhole) {
+        double[] centre = CITY_COORDINATES[nextCity()];
+        blackhole.consume(index.withinRadius(centre[0], centre[1], RADIUS_KM, null, null, null, 20));
+    }
+
+    @Benchmark
+    public void indexRadiusFiltered(Blackhole blackhole) {
+        double[] centre = CITY_COORDINATES[nextCity()];
+        blackhole.consume(index.withinRadius(centre[0], centre[1], RADIUS_KM, EventCategory.MUSIC,
+                NOW.plusDays(30), NOW.plusDays(90), 20));
+    }
+
+    @Benchmark
+    public void indexViewport(Blackhole blackhole) {
+        double[] centre = CITY_COORDINATES[nextCity()];
+        blackhole.consume(index.withinBox(centre[0] - VIEWPORT_DEGREES, centre[1] - VIEWPORT_DEGREES,
+                centre[0] + VIEWPORT_DEGREES, centre[1] + VIEWPORT_DEGREES, null, null, null, 20));
+    }
+
+    private int nextCity() {
+        next = (next + 1) % CITY_COORDINATES.length;
+        return next;
+    }
+}
@@ -0,0 +1,131 @@
+package com.demo.eventwave.benchmark;
+
+import com.demo.eventwave.search.EventSearchIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the in-memory search index against the LIKE '%term%' queries that
+ * EventRepository.findByTitleContainingIgnoreCase / findByDescriptionContainingIgnoreCase
+ * generate, on an embedded H2 table of the given size.
+ *
+ * Run with:
+ *   mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+ *       -Dexec.args="-cp %classpath org.openjdk.jmh.Main EventSearchBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx4g"})
+public class EventSearchBenchmark {
+
+    static final String[] WORDS = {
+            "jazz", "rock", "summit", "startup", "marathon", "yoga", "wine", "tasting", "workshop",
+            "python", "design", "gallery", "festival", "cricket", "football", "street", "food",
+            "fashion", "runway", "trek", "sunrise", "meetup", "cloud", "kernel", "painting",
+            "pottery", "comedy", "theatre", "acoustic", "orchestra", "hackathon", "coffee"
+    };
+    static final String[] CITIES = {"Bengaluru", "Mysuru", "Chennai", "Hyderabad", "Pune", "Mumbai", "Delhi", "Kochi"};
+
+    @Param({"10000", "100000", "1000000"})
+    public int events;
+
+    @Param({"jazz", "hack"})
+    public String term;
+
+    private Connection connection;
+    private PreparedStatement likeTitle;
+    private PreparedStatement likeDescription;
+    private EventSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:search_bench_" + events + ";DB_CLOSE_DELAY=-1");
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE IF EXISTS events");
+            ddl.execute("CREATE TABLE events (event_id BIGINT PRIMARY KEY, title VARCHAR(255) NOT NULL, " +
+                    "description CLOB, location VARCHAR(255) NOT NULL)");
+        }
+
+        index = new EventSearchIndex();
+        Random random = new Random(42);
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO events (event_id, title, description, location) VALUES (?, ?, ?, ?)")) {
+            for (long id = 1; id <= events; id++) {
+                String title = words(random, 3);
+                String description = words(random, 20);
+                String location = CITIES[random.nextInt(CITIES.length)];
+                insert.setLong(1, id);
+                insert.setString(2, title);
+                insert.setString(3, description);
+                insert.setString(4, location);
+                insert.addBatch();
+                if (id % 1000 == 0) {
+                    insert.executeBatch();
+                }
+                index.index(id, title, description, location);
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+
+        // Same predicate shape Spring Data derives for *ContainingIgnoreCase
+        likeTitle = connection.prepareStatement("SELECT event_id FROM events WHERE UPPER(title) LIKE UPPER(?)");
+        likeDescription = connection.prepareStatement("SELECT event_id FROM events WHERE UPPER(description) LIKE UPPER(?)");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE events");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void likeOnTitle(Blackhole blackhole) throws SQLException {
+        drain(likeTitle, blackhole);
+    }
+
+    @Benchmark
+    public void likeOnDescription(Blackhole blackhole) throws SQLException {
+        drain(likeDescription, blackhole);
+    }
+
+    @Benchmark
+    public void searchIndex(Blackhole blackhole) {
+        blackhole.consume(index.search(term, 20));
+    }
+
+    private void drain(PreparedStatement statement, Blackhole blackhole) throws SQLException {
+        statement.setString(1, "%" + term + "%");
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                blackhole.consume(rs.getLong(1));
+            }
+        }
+    }
+
+    static String words(Random random, int count) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+}
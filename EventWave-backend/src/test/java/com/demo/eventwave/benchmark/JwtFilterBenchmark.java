@@ -0,0 +1,147 @@
+package com.demo.eventwave.benchmark;
+
+import com.demo.eventwave.cache.JwtClaimsCache;
+import com.demo.eventwave.filter.JwtAuthenticationFilter;
+import com.demo.eventwave.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.security.Key;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Per-request cost of JwtAuthenticationFilter for an authenticated request.
+ * {@code legacyDoubleParse} is the filter as it was before the claims cache: the key and
+ * parser are rebuilt and the token is parsed and verified twice. {@code singleParse} is the
+ * current filter with the cache disabled, {@code cachedClaims} the current filter with it on.
+ * {@code generateToken} and {@code verifyToken} are the bare JwtUtil calls made at login and
+ * on every cache miss.
+ *
+ * Run with:
+ *   mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+ *       -Dexec.args="-cp %classpath org.openjdk.jmh.Main JwtFilterBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+    private String authorization;
+    private OncePerRequestFilter legacy;
+    private OncePerRequestFilter uncached;
+    private OncePerRequestFilter cached;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        token = jwtUtil.generateToken("attendee@example.com", "USER");
+        authorization = "Bearer " + token;
+        legacy = new LegacyJwtFilter();
+        uncached = new JwtAuthenticationFilter(jwtUtil, new JwtClaimsCache(0));
+        cached = new JwtAuthenticationFilter(jwtUtil, new JwtClaimsCache(10_000));
+    }
+
+    @Benchmark
+    public Object legacyDoubleParse() throws Exception {
+        return filter(legacy);
+    }
+
+    @Benchmark
+    public Object singleParse() throws Exception {
+        return filter(uncached);
+    }
+
+    @Benchmark
+    public Object cachedClaims() throws Exception {
+        return filter(cached);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("attendee@example.com", "USER");
+    }
+
+    @Benchmark
+    public Object verifyToken() {
+        return jwtUtil.verifyToken(token);
+    }
+
+    private Object filter(OncePerRequestFilter filter) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/attendee/events");
+        request.addHeader("Authorization", authorization);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    // The filter and JwtUtil parsing path as they were before the claims cache
+    static final class LegacyJwtFilter extends OncePerRequestFilter {
+
+        private static final String SECRET_KEY = "afafasfafafasfasfasfafacasdasfasxASFACASDFACASDFASFASFDAFASFASDAADSCSDFADCVSGCFVADXCcadwavfsfarvf";
+
+        private Key getSignKey() {
+            return Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+        }
+
+        private Claims getClaims(String token) {
+            return Jwts.parserBuilder()
+                    .setSigningKey(getSignKey())
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+        }
+
+        private boolean validateToken(String token) {
+            try {
+                getClaims(token);
+                return true;
+            } catch (JwtException | IllegalArgumentException e) {
+                return false;
+            }
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                        FilterChain filterChain) throws ServletException, IOException {
+            String jwt = request.getHeader("Authorization").substring(7);
+            if (validateToken(jwt)) {
+                Claims claims = getClaims(jwt);
+                List<?> roles = claims.get("authorities", List.class);
+                List<SimpleGrantedAuthority> authorities = roles.stream()
+                        .map(role -> new SimpleGrantedAuthority((String) role))
+                        .collect(Collectors.toList());
+                User userDetails = new User(claims.getSubject(), "", authorities);
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(userDetails, null, authorities);
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
+            filterChain.doFilter(request, response);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.demo.eventwave.benchmark;
+
+import com.demo.eventwave.EventwaveApplication;
+import com.demo.eventwave.entity.EventCategory;
+import com.demo.eventwave.search.EventSearchIndex;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The full application context (services, caches, Flyway schema with its indexes) on an
+ * embedded H2 database in MySQL mode, bulk-seeded over JDBC with a fixed random seed so
+ * every run and every release benchmarks the same data.
+ *
+ * Events start 30 days in the past and spread forward one hour apart; users are
+ * {@code user0..user<n-1>}, the first one organizing every event.
+ */
+final class SeededApplication implements AutoCloseable {
+
+    static final String[] CITIES = EventSearchBenchmark.CITIES;
+    static final LocalDateTime FIRST_EVENT = LocalDateTime.now().withNano(0).minusDays(30);
+
+    private final ConfigurableApplicationContext context;
+    private final JdbcTemplate jdbc;
+
+    private SeededApplication(ConfigurableApplicationContext context) {
+        this.context = context;
+        this.jdbc = context.getBean(JdbcTemplate.class);
+    }
+
+    static SeededApplication start(String name, int events, int users) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(EventwaveApplication.class)
+                .web(WebApplicationType.NONE)
+                // Command-line arguments, so they win over application.properties
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:" + name + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.main.banner-mode=off",
+                        // Keep log I/O out of the measurements
+                        "--logging.file.name=",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+        SeededApplication application = new SeededApplication(context);
+        application.seed(events, users);
+        return application;
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    JdbcTemplate jdbc() {
+        return jdbc;
+    }
+
+    long userId(int index) {
+        return jdbc.queryForObject("SELECT user_id FROM users WHERE user_name = ?", Long.class, "user" + index);
+    }
+
+    long eventId(int index) {
+        return jdbc.queryForObject("SELECT event_id FROM events WHERE title = ?", Long.class, title(index));
+    }
+
+    // One event per hour from FIRST_EVENT on
+    static LocalDateTime dateTime(int index) {
+        return FIRST_EVENT.plusHours(index);
+    }
+
+    @Override
+    public void close() {
+        jdbc.execute("SHUTDOWN");
+        context.close();
+    }
+
+    private void seed(int events, int users) {
+        Random random = new Random(42);
+        List<Object[]> userRows = new ArrayList<>(users);
+        for (int u = 0; u < users; u++) {
+            // Never used to log in, so skip the bcrypt cost
+            userRows.add(new Object[]{"user" + u, "user" + u + "@bench.test", "{noop}secret", u == 0 ? "ORGANIZER" : "USER"});
+        }
+        jdbc.batchUpdate("INSERT INTO users (user_name, email, password, role) VALUES (?, ?, ?, ?)", userRows);
+        long organizerId = userId(0);
+
+        EventSearchIndex searchIndex = bean(EventSearchIndex.class);
+        EventCategory[] categories = EventCategory.values();
+        List<Object[]> eventRows = new ArrayList<>(events);
+        for (int e = 0; e < events; e++) {
+            String description = EventSearchBenchmark.words(random, 20);
+            eventRows.add(new Object[]{title(e), description, Timestamp.valueOf(dateTime(e)),
+                    CITIES[random.nextInt(CITIES.length)], Integer.MAX_VALUE, 10, organizerId,
+                    categories[e % categories.length].name()});
+        }
+        jdbc.batchUpdate("INSERT INTO events (title, description, date_time, location, capacity, price, " +
+                "organizer_id, category) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", eventRows);
+        jdbc.update("INSERT INTO event_review_stats (event_id, review_count, rating_count, rating_sum, " +
+                "rating_sum_squares, stars_1, stars_2, stars_3, stars_4, stars_5) " +
+                "SELECT event_id, 0, 0, 0, 0, 0, 0, 0, 0, 0 FROM events");
+        jdbc.query("SELECT event_id, title, description, location FROM events", row -> {
+            searchIndex.index(row.getLong(1), row.getString(2), row.getString(3), row.getString(4));
+        });
+        jdbc.execute("ANALYZE");
+    }
+
+    // Titles double as searchable text: "<index> <three words>"
+    private static String title(int index) {
+        return index + " " + EventSearchBenchmark.words(new Random(index), 3);
+    }
+}
@@ -0,0 +1,140 @@
+package com.demo.eventwave.benchmark;
+
+import com.demo.eventwave.cache.EventDtoCache;
+import com.demo.eventwave.entity.EventCategory;
+import com.demo.eventwave.service.AttendeeEventService;
+import com.demo.eventwave.service.RegistrationService;
+import com.demo.eventwave.service.WishlistService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service-layer hot paths through the real Spring context, against a seeded embedded
+ * database (see {@link SeededApplication}). Data volumes are JMH parameters, so a run
+ * can be sized from the command line, e.g. {@code -p events=100000 -p users=50000}.
+ *
+ * {@code getAllEventsColdDtoCache} empties the event DTO cache first and so measures the
+ * entity-to-DTO mapping; {@code getAllEvents} is the same call served from the cache.
+ *
+ * Run the whole suite with JSON output through the benchmarks profile:
+ *   mvn -Pbenchmarks -DskipTests verify
+ * or just this class with:
+ *   mvn -Pbenchmarks -DskipTests verify -Djmh.include=ServiceBenchmark -Djmh.args="-p events=1000"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx2g"})
+public class ServiceBenchmark {
+
+    @Param({"1000", "10000"})
+    public int events;
+
+    // Also the number of fresh registrations available per iteration
+    @Param({"20000"})
+    public int users;
+
+    @Param({"50"})
+    public int wishlistSize;
+
+    private SeededApplication application;
+    private AttendeeEventService attendeeEventService;
+    private RegistrationService registrationService;
+    private WishlistService wishlistService;
+    private EventDtoCache eventDtoCache;
+
+    private long[] userIds;
+    private long wishlistUserId;
+    private long registrationEventId;
+    private int nextRegistrant;
+    private LocalDateTime weekStart;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        application = SeededApplication.start("service_bench_" + events + "_" + users, events, users);
+        attendeeEventService = application.bean(AttendeeEventService.class);
+        registrationService = application.bean(RegistrationService.class);
+        wishlistService = application.bean(WishlistService.class);
+        eventDtoCache = application.bean(EventDtoCache.class);
+
+        userIds = application.jdbc().queryForList("SELECT user_id FROM users ORDER BY user_id", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+        wishlistUserId = userIds[1];
+        for (int i = 0; i < Math.min(wishlistSize, events); i++) {
+            wishlistService.addToWishlist(wishlistUserId, application.eventId(events - 1 - i));
+        }
+        registrationEventId = application.eventId(events - 1);
+        // A week of events around "now" (events are seeded one per hour from 30 days back)
+        weekStart = SeededApplication.dateTime(Math.min(events, 30 * 24) / 2);
+    }
+
+    // Every iteration registers users nobody has registered yet
+    @Setup(Level.Iteration)
+    public void resetRegistrations() {
+        application.jdbc().update("DELETE FROM registrations WHERE event_id = ?", registrationEventId);
+        application.jdbc().update("UPDATE events SET seats_taken = 0 WHERE event_id = ?", registrationEventId);
+        nextRegistrant = 2;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        application.close();
+    }
+
+    @Benchmark
+    public Object getAllEvents() {
+        return attendeeEventService.getAllEvents("user2");
+    }
+
+    @Benchmark
+    public Object getAllEventsColdDtoCache() {
+        eventDtoCache.clear();
+        return attendeeEventService.getAllEvents("user2");
+    }
+
+    @Benchmark
+    public Object getEventsPage() {
+        return attendeeEventService.getEventsPage("user2", null, null, weekStart, null, null, 20);
+    }
+
+    @Benchmark
+    public Object searchEvents() {
+        return attendeeEventService.searchEvents("jazz", 20, "user2");
+    }
+
+    @Benchmark
+    public Object searchEventsByTitle() {
+        return attendeeEventService.searchEventsByTitle("jazz");
+    }
+
+    @Benchmark
+    public Object filterByLocation() {
+        return attendeeEventService.filterByLocation("Pune");
+    }
+
+    @Benchmark
+    public Object filterByDateRange() {
+        return attendeeEventService.filterByDateRange(weekStart, weekStart.plusDays(7));
+    }
+
+    @Benchmark
+    public Object getEventsByCategory() {
+        return attendeeEventService.getEventsByCategory(EventCategory.MUSIC);
+    }
+
+    @Benchmark
+    public Object registerUserForEvent() {
+        long userId = userIds[nextRegistrant];
+        nextRegistrant = nextRegistrant + 1 < userIds.length ? nextRegistrant + 1 : 2;
+        return registrationService.registerUserForEvent(userId, registrationEventId);
+    }
+
+    @Benchmark
+    public Object getUserWishlist() {
+        return wishlistService.getUserWishlist(wishlistUserId);
+    }
+}
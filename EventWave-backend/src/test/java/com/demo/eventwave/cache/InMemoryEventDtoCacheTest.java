@@ -0,0 +1,95 @@
+package com.demo.eventwave.cache;
+
+import com.demo.eventwave.dto.EventDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryEventDtoCacheTest {
+
+    private MutableClock clock;
+    private InMemoryEventDtoCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        cache = new InMemoryEventDtoCache(2, Duration.ofMinutes(5), clock);
+    }
+
+    @Test
+    void get_ReturnsCopiesSoCallerChangesDoNotLeak() {
+        cache.put(1L, dto(1L));
+
+        cache.get(1L).setInWishlist(true);
+
+        assertThat(cache.get(1L).getInWishlist()).isNull();
+        assertThat(cache.stats().getHits()).isEqualTo(2);
+    }
+
+    @Test
+    void get_ExpiresEntriesAfterTtl() {
+        cache.put(1L, dto(1L));
+        clock.advance(Duration.ofMinutes(6));
+
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.stats().getMisses()).isEqualTo(1);
+        assertThat(cache.stats().getSize()).isZero();
+    }
+
+    @Test
+    void put_EvictsLeastRecentlyUsedBeyondMaxSize() {
+        cache.put(1L, dto(1L));
+        cache.put(2L, dto(2L));
+        cache.get(1L);
+        cache.put(3L, dto(3L));
+
+        assertThat(cache.get(2L)).isNull();
+        assertThat(cache.get(1L)).isNotNull();
+        assertThat(cache.stats().getEvictions()).isEqualTo(1);
+    }
+
+    @Test
+    void evict_RemovesEntry() {
+        cache.put(1L, dto(1L));
+        cache.evict(1L);
+
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    private static EventDTO dto(Long id) {
+        EventDTO dto = new EventDTO();
+        dto.setEventId(id);
+        dto.setTitle("Event " + id);
+        return dto;
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
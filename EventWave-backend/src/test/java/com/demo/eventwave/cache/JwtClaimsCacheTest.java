@@ -0,0 +1,56 @@
+package com.demo.eventwave.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtClaimsCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+    private static final List<SimpleGrantedAuthority> USER = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    private final JwtClaimsCache cache = new JwtClaimsCache(2, Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    void get_ReturnsVerifiedTokenUntilItExpires() {
+        cache.put("live", "alice@example.com", USER, Date.from(NOW.plusSeconds(60)));
+        cache.put("expired", "bob@example.com", USER, Date.from(NOW));
+
+        assertThat(cache.get("live").getUsername()).isEqualTo("alice@example.com");
+        assertThat(cache.get("live").getAuthorities()).isEqualTo(USER);
+        assertThat(cache.get("expired")).isNull();
+        assertThat(cache.get("unknown")).isNull();
+        assertThat(cache.stats().getHits()).isEqualTo(2);
+        assertThat(cache.stats().getEvictions()).isEqualTo(1);
+    }
+
+    @Test
+    void put_SkipsCachingWhenFullOfLiveTokens() {
+        cache.put("a", "a@example.com", USER, Date.from(NOW.plusSeconds(60)));
+        cache.put("b", "b@example.com", USER, Date.from(NOW.plusSeconds(60)));
+
+        JwtClaimsCache.VerifiedToken overflow = cache.put("c", "c@example.com", USER, Date.from(NOW.plusSeconds(60)));
+
+        assertThat(overflow.getUsername()).isEqualTo("c@example.com");
+        assertThat(cache.get("c")).isNull();
+        assertThat(cache.stats().getSize()).isEqualTo(2);
+    }
+
+    @Test
+    void put_MakesRoomByPurgingExpiredTokens() {
+        cache.put("a", "a@example.com", USER, Date.from(NOW.minusSeconds(1)));
+        cache.put("b", "b@example.com", USER, Date.from(NOW.plusSeconds(60)));
+
+        cache.put("c", "c@example.com", USER, Date.from(NOW.plusSeconds(60)));
+
+        assertThat(cache.get("c")).isNotNull();
+        assertThat(cache.stats().getSize()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,228 @@
+package com.demo.eventwave.controller;
+
+import com.demo.eventwave.entity.Event;
+import com.demo.eventwave.entity.EventCategory;
+import com.demo.eventwave.entity.Role;
+import com.demo.eventwave.entity.User;
+import com.demo.eventwave.repository.EventRepository;
+import com.demo.eventwave.repository.UserRepository;
+import com.demo.eventwave.util.BoundedPasswordEncoder;
+import com.demo.eventwave.util.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fires a burst of concurrent logins at the real server while one client keeps browsing
+ * the catalog, and checks the catalog stays responsive: hashing is capped at one core
+ * by the password pool and the overflow is turned away with 429 instead of queuing.
+ * The burst compares wall-clock latencies, so it is tagged "load" and only runs with
+ * -Ploadtest (see the pom); the rehash check runs in the default suite.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:loginburst;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "eventwave.security.password.bcrypt-strength=10",
+        "eventwave.security.password.hashing-threads=1",
+        "eventwave.security.password.hashing-queue=4",
+        // Past the burst size, so only the hashing pool sheds logins here
+        "eventwave.bulkhead.auth.max-concurrent=128"
+})
+@ActiveProfiles("test")
+class LoginBurstLoadTest {
+
+    private static final int LOGINS = 64;
+    private static final int BASELINE_SAMPLES = 30;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private String catalogToken;
+
+    @BeforeEach
+    void setUp() {
+        if (userRepository.findByUserName("burst").isEmpty()) {
+            User organizer = userRepository.save(new User(null, "burst-organizer", "organizer@burst.test",
+                    passwordEncoder.encode("secret"), Role.ORGANIZER));
+            userRepository.save(new User(null, "burst", "burst@burst.test", passwordEncoder.encode("secret"), Role.USER));
+            for (int i = 0; i < 20; i++) {
+                eventRepository.save(new Event("Event " + i, "Load test event", LocalDateTime.now().plusDays(i + 1),
+                        "Bengaluru", 100, BigDecimal.TEN, organizer, EventCategory.MUSIC, null));
+            }
+        }
+        catalogToken = jwtUtil.generateToken("burst", "USER");
+    }
+
+    @Test
+    @Tag("load")
+    void catalogLatencyStaysFlatDuringLoginBurst() throws Exception {
+        List<Long> baseline = new ArrayList<>();
+        for (int i = 0; i < BASELINE_SAMPLES; i++) {
+            baseline.add(timeCatalogRequest());
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(LOGINS);
+        ExecutorService browser = Executors.newSingleThreadExecutor();
+        AtomicBoolean burstRunning = new AtomicBoolean(true);
+        List<Long> duringBurst = Collections.synchronizedList(new ArrayList<>());
+        Map<Integer, Integer> statuses = new ConcurrentHashMap<>();
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> logins = new ArrayList<>();
+            for (int i = 0; i < LOGINS; i++) {
+                logins.add(pool.submit(() -> {
+                    start.await();
+                    return login();
+                }));
+            }
+
+            Future<?> browsing = browser.submit(() -> {
+                while (burstRunning.get()) {
+                    duringBurst.add(timeCatalogRequest());
+                }
+                return null;
+            });
+            start.countDown();
+
+            for (Future<Integer> login : logins) {
+                statuses.merge(login.get(2, TimeUnit.MINUTES), 1, Integer::sum);
+            }
+            burstRunning.set(false);
+            browsing.get(1, TimeUnit.MINUTES);
+        } finally {
+            burstRunning.set(false);
+            pool.shutdownNow();
+            browser.shutdownNow();
+        }
+
+        long baselineP95 = percentile(baseline, 95);
+        long burstP95 = percentile(duringBurst, 95);
+
+        assertThat(statuses.keySet()).containsOnly(200, 429);
+        assertThat(statuses.get(200)).isPositive();
+        assertThat(statuses.get(429)).isPositive();
+        assertThat(passwordEncoder.getRejectedCount()).isGreaterThanOrEqualTo(statuses.get(429));
+        assertThat(duringBurst).isNotEmpty();
+        // One core goes to hashing at most, so the catalog keeps answering within a small budget
+        assertThat(burstP95)
+                .as("catalog p95 during the burst (%d samples, logins %s)", duringBurst.size(), statuses)
+                .isLessThan(baselineP95 + 500);
+    }
+
+    @Test
+    void login_RehashesLegacyPasswordTransparently() throws Exception {
+        // Unprefixed, lower-cost hash as stored before the encoder was made configurable
+        String legacyHash = new BCryptPasswordEncoder(4).encode("secret");
+        userRepository.save(new User(null, "legacy", "legacy@burst.test", legacyHash, Role.USER));
+
+        assertThat(login("legacy")).isEqualTo(200);
+
+        String stored = userRepository.findByUserName("legacy").orElseThrow().getPassword();
+        assertThat(stored).startsWith("{bcrypt}$2a$10$");
+        assertThat(login("legacy")).isEqualTo(200);
+    }
+
+    @Test
+    void register_AnswersConflictForTakenNamesEvenWhenRacing() throws Exception {
+        assertThat(register("newcomer")).isEqualTo(200);
+        assertThat(register("newcomer")).isEqualTo(409);
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        Map<Integer, Integer> statuses = new ConcurrentHashMap<>();
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> attempts = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                attempts.add(pool.submit(() -> {
+                    start.await();
+                    return register("racer");
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> attempt : attempts) {
+                statuses.merge(attempt.get(1, TimeUnit.MINUTES), 1, Integer::sum);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(statuses.keySet()).isSubsetOf(200, 409, 429);
+        assertThat(statuses.get(200)).isEqualTo(1);
+    }
+
+    private int register(String username) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/register"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"" + username + "\",\"email\":\"" + username
+                        + "@burst.test\",\"password\":\"secret\",\"role\":\"USER\"}"))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private int login() throws Exception {
+        return login("burst");
+    }
+
+    private int login(String username) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"" + username + "\",\"password\":\"secret\"}"))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private long timeCatalogRequest() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/attendee/events"))
+                .header("Authorization", "Bearer " + catalogToken)
+                .GET()
+                .build();
+        long started = System.nanoTime();
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+    }
+
+    private static long percentile(List<Long> samples, int percentile) {
+        List<Long> sorted = new ArrayList<>(samples);
+        Collections.sort(sorted);
+        return sorted.get(Math.min(sorted.size() - 1, sorted.size() * percentile / 100));
+    }
+}
@@ -0,0 +1,68 @@
+package com.demo.eventwave.controller;
+
+import com.demo.eventwave.entity.Role;
+import com.demo.eventwave.entity.User;
+import com.demo.eventwave.repository.UserRepository;
+import com.demo.eventwave.util.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:metrics;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver"
+})
+// Metrics export is switched off in tests unless asked for
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class MetricsEndpointTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void prometheusScrape_ExposesEndpointServiceRepositoryAndCacheMetrics() throws Exception {
+        userRepository.save(new User(null, "metrics", "metrics@example.com", "secret", Role.USER));
+        HttpResponse<String> catalog = client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/attendee/events"))
+                .header("Authorization", "Bearer " + jwtUtil.generateToken("metrics", "USER"))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(catalog.statusCode()).isEqualTo(200);
+
+        // No token: the scrape is public
+        HttpResponse<String> scrape = client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/prometheus"))
+                .build(), HttpResponse.BodyHandlers.ofString());
+
+        assertThat(scrape.statusCode()).isEqualTo(200);
+        assertThat(scrape.body())
+                .containsPattern("http_server_requests_seconds_count\\{.*uri=\"/api/attendee/events\"")
+                .containsPattern("eventwave_service_seconds_count\\{.*class=\"com.demo.eventwave.service.AttendeeEventService\".*method=\"getAllEvents\"")
+                .containsPattern("eventwave_repository_statements_count\\{.*method=\"findAll\".*repository=\"EventRepository\"")
+                .containsPattern("spring_data_repository_invocations_seconds_count\\{.*repository=\"EventRepository\"")
+                .contains("eventwave_cache_requests_total{application=\"eventwave\",cache=\"events\",result=\"hit\"}")
+                .contains("eventwave_cache_hit_ratio{application=\"eventwave\",cache=\"jwt\"}")
+                .contains("eventwave_password_hashing_rejected_total")
+                .contains("eventwave_registration_queue_depth")
+                .contains("hikaricp_connections_active{application=\"eventwave\",pool=\"eventwave\"}")
+                .contains("hikaricp_connections_acquire_seconds_bucket")
+                .containsPattern("eventwave_bulkhead_wait_seconds_count\\{.*bulkhead=\"catalog\"")
+                .contains("eventwave_bulkhead_rejected_total{application=\"eventwave\",bulkhead=\"auth\"}");
+    }
+}
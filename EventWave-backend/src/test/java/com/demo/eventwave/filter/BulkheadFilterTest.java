@@ -0,0 +1,71 @@
+package com.demo.eventwave.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkheadFilterTest {
+
+    @Test
+    void fullCatalogBulkheadShedsCatalogReadsOnly() throws Exception {
+        BulkheadFilter filter = new BulkheadFilter(1, 1, 1, Duration.ofMillis(50), new SimpleMeterRegistry());
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        HttpServlet blocking = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                inside.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+
+        MockHttpServletResponse slow = new MockHttpServletResponse();
+        CompletableFuture<Void> running = CompletableFuture.runAsync(() -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/attendee/events"), slow, new MockFilterChain(blocking));
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        assertThat(inside.await(10, TimeUnit.SECONDS)).isTrue();
+
+        MockHttpServletResponse catalog = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/attendee/events/page"), catalog, new MockFilterChain());
+        assertThat(catalog.getStatus()).isEqualTo(503);
+        assertThat(catalog.getHeader("Retry-After")).isEqualTo("1");
+
+        // Logins, registrations and writes under the catalog path have their own budgets
+        MockHttpServletResponse login = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/auth/login"), login, new MockFilterChain());
+        assertThat(login.getStatus()).isEqualTo(200);
+        MockHttpServletResponse register = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/registrations/register/1"), register, new MockFilterChain());
+        assertThat(register.getStatus()).isEqualTo(200);
+        MockHttpServletResponse review = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/attendee/events/1/reviews"), review, new MockFilterChain());
+        assertThat(review.getStatus()).isEqualTo(200);
+
+        release.countDown();
+        running.get(10, TimeUnit.SECONDS);
+        MockHttpServletResponse afterwards = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/attendee/events"), afterwards, new MockFilterChain());
+        assertThat(slow.getStatus()).isEqualTo(200);
+        assertThat(afterwards.getStatus()).isEqualTo(200);
+    }
+}
@@ -0,0 +1,54 @@
+package com.demo.eventwave.filter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(OutputCaptureExtension.class)
+class RequestLoggingFilterTest {
+
+    @Test
+    void unsampledRequestsStillLogFailures(CapturedOutput output) throws Exception {
+        RequestLoggingFilter filter = new RequestLoggingFilter(0.0, Duration.ofSeconds(30));
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/attendee/events"), new MockHttpServletResponse(), new MockFilterChain());
+        MockHttpServletResponse failed = new MockHttpServletResponse();
+        failed.setStatus(503);
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/registrations/register/1"), failed, new MockFilterChain());
+
+        assertThat(output).doesNotContain("GET /api/attendee/events ->");
+        assertThat(output).containsPattern("POST /api/registrations/register/1 -> 503 in \\d+ ms");
+    }
+
+    @Test
+    void slowRequestsAreAlwaysLogged(CapturedOutput output) throws Exception {
+        RequestLoggingFilter filter = new RequestLoggingFilter(0.0, Duration.ZERO);
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/attendee/events/page"), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(output).containsPattern("GET /api/attendee/events/page -> 200 in \\d+ ms");
+    }
+
+    @Test
+    void handlerExceptionsAreLoggedAs500AndRethrown(CapturedOutput output) {
+        RequestLoggingFilter filter = new RequestLoggingFilter(0.0, Duration.ofSeconds(30));
+
+        assertThatThrownBy(() -> filter.doFilter(new MockHttpServletRequest("GET", "/api/attendee/events/7"),
+                new MockHttpServletResponse(), (request, response) -> {
+                    throw new IllegalStateException("boom");
+                }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("boom");
+
+        assertThat(output).containsPattern("GET /api/attendee/events/7 -> 500 in \\d+ ms");
+    }
+}
@@ -0,0 +1,400 @@
+package com.demo.eventwave.loadtest;
+
+import com.demo.eventwave.EventwaveApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Replays a mix of attendee traffic (browse, search, register, wishlist, review) against
+ * a running server and reports throughput and p50/p99 latency per endpoint.
+ *
+ * Without {@code --url} it starts the application itself on an embedded H2 database with
+ * the {@code loadtest} profile, so {@link SyntheticDataGenerator} seeds it first and the
+ * whole run is offline:
+ *   mvn -Ploadtest -DskipTests verify -Dloadtest.args="--users=32 --duration=60"
+ * Point it at a separately started server (e.g. MySQL with the loadtest profile) to keep
+ * the harness off the server's CPUs:
+ *   mvn -Ploadtest -DskipTests verify -Dloadtest.args="--url=http://localhost:8082"
+ *
+ * Options: --url, --users (virtual users, each logged in as attendee&lt;i&gt;), --duration and
+ * --warmup in seconds, --mix (scenario weights, e.g. browse:50,search:25,register:10,wishlist:10,review:5),
+ * --password, --report (JSON output, default target/loadtest-report.json). With the embedded
+ * server, {@code --eventwave.*}, {@code --spring.*} and {@code --logging.*} options are passed on to it, e.g.
+ * {@code --eventwave.loadtest.events=50000} to size the dataset, or
+ * {@code --eventwave.concurrency.max-in-flight=200} to see the run without the in-flight cap.
+ * Non-2xx answers below 500 (already reviewed, not registered...) and 503s from load
+ * shedding are counted as rejections, not errors.
+ */
+public class LoadHarness {
+
+    private static final ObjectMapper JSON = new ObjectMapper().findAndRegisterModules()
+            .enable(SerializationFeature.INDENT_OUTPUT);
+    private static final int CATALOG_SAMPLE = 2000;
+
+    private final String baseUrl;
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final Map<String, Integer> mix;
+    private final List<Long> eventIds = new ArrayList<>();
+
+    LoadHarness(String baseUrl, Map<String, Integer> mix) {
+        this.baseUrl = baseUrl;
+        this.mix = mix;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int users = Integer.parseInt(options.getOrDefault("users", "16"));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "60")));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10")));
+        String password = options.getOrDefault("password", "loadtest");
+        Path report = Path.of(options.getOrDefault("report", "target/loadtest-report.json"));
+        Map<String, Integer> mix = parseMix(options.getOrDefault("mix", "browse:50,search:25,register:10,wishlist:10,review:5"));
+
+        ConfigurableApplicationContext embedded = null;
+        String url = options.get("url");
+        // Application settings (e.g. --eventwave.loadtest.events=20000) go to the embedded server
+        Map<String, String> overrides = new TreeMap<>();
+        if (url == null) {
+            options.forEach((name, value) -> {
+                if (name.startsWith("eventwave.") || name.startsWith("spring.") || name.startsWith("logging.")) {
+                    overrides.put(name, value);
+                }
+            });
+            embedded = startEmbedded(overrides);
+            url = "http://localhost:" + embedded.getEnvironment().getProperty("local.server.port");
+        }
+        try {
+            LoadHarness harness = new LoadHarness(url, mix);
+            Map<String, Object> results = harness.run(users, password, warmup, duration);
+            // Recorded so runs with different server settings (e.g. the in-flight cap) can be compared
+            results.put("serverSettings", overrides);
+            Files.createDirectories(report.toAbsolutePath().getParent());
+            JSON.writeValue(report.toFile(), results);
+            System.out.println("Report written to " + report.toAbsolutePath());
+        } finally {
+            if (embedded != null) {
+                embedded.close();
+            }
+        }
+    }
+
+    static ConfigurableApplicationContext startEmbedded(Map<String, String> overrides) {
+        // Devtools would relaunch the harness main in a restart class loader
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        Map<String, String> settings = new LinkedHashMap<>();
+        settings.put("spring.profiles.active", "loadtest");
+        settings.put("server.port", "0");
+        settings.put("spring.datasource.url", "jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+        settings.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        settings.put("spring.datasource.username", "sa");
+        settings.put("spring.datasource.password", "");
+        settings.put("spring.jpa.database-platform", "org.hibernate.dialect.H2Dialect");
+        settings.put("spring.main.banner-mode", "off");
+        // Quiet by default; pass e.g. --logging.level.root=INFO --logging.file.name=logs/event_wave.log to measure logging
+        settings.put("logging.file.name", "");
+        settings.put("logging.file.path", "");
+        settings.put("logging.level.root", "WARN");
+        settings.put("logging.level.com.demo.eventwave.loadtest", "INFO");
+        // Replaced, not repeated: repeated arguments are joined into one comma-separated value
+        settings.putAll(overrides);
+        // Command-line arguments, so they win over application.properties
+        return new SpringApplicationBuilder(EventwaveApplication.class).run(settings.entrySet().stream()
+                .map(setting -> "--" + setting.getKey() + "=" + setting.getValue())
+                .toArray(String[]::new));
+    }
+
+    Map<String, Object> run(int users, String password, Duration warmup, Duration duration) throws Exception {
+        List<VirtualUser> virtualUsers = new ArrayList<>();
+        // Sequential: logins are bcrypt-bound and the hashing pool turns bursts away
+        for (int i = 0; i < users; i++) {
+            virtualUsers.add(login("attendee" + i, password, new Random(i)));
+        }
+        sampleCatalog(virtualUsers.get(0));
+        System.out.printf("%d virtual users, %d events sampled, warmup %ds, measuring %ds%n",
+                users, eventIds.size(), warmup.toSeconds(), duration.toSeconds());
+
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        try {
+            drive(executor, virtualUsers, warmup);
+            virtualUsers.forEach(user -> {
+                user.latencies.clear();
+                user.failures.clear();
+            });
+            long started = System.nanoTime();
+            drive(executor, virtualUsers, duration);
+            double seconds = (System.nanoTime() - started) / 1e9;
+            return report(virtualUsers, seconds);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void drive(ExecutorService executor, List<VirtualUser> virtualUsers, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<?>> running = new ArrayList<>();
+        for (VirtualUser user : virtualUsers) {
+            running.add(executor.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    runScenario(user, pickScenario(user.random));
+                }
+            }));
+        }
+        for (Future<?> future : running) {
+            future.get();
+        }
+    }
+
+    private String pickScenario(Random random) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int roll = random.nextInt(total);
+        for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Empty scenario mix");
+    }
+
+    private void runScenario(VirtualUser user, String scenario) {
+        Random random = user.random;
+        switch (scenario) {
+            case "browse" -> {
+                JsonNode page = user.get("GET /api/attendee/events/page", "/api/attendee/events/page?size=20"
+                        + (user.cursor != null ? "&cursor=" + user.cursor : ""));
+                user.cursor = page != null && page.path("hasMore").asBoolean() ? page.path("nextCursor").asText() : null;
+                user.get("GET /api/attendee/events/{id}", "/api/attendee/events/" + randomEvent(random));
+            }
+            case "search" -> {
+                String query = SyntheticDataGenerator.WORDS[random.nextInt(SyntheticDataGenerator.WORDS.length)];
+                if (random.nextBoolean()) {
+                    query += " " + SyntheticDataGenerator.CITIES[random.nextInt(SyntheticDataGenerator.CITIES.length)];
+                }
+                user.get("GET /api/attendee/events/search", "/api/attendee/events/search?limit=20&q="
+                        + URLEncoder.encode(query, StandardCharsets.UTF_8));
+            }
+            case "register" -> user.send("POST /api/registrations/register/{userId}", "POST",
+                    "/api/registrations/register/" + user.userId, "{\"eventId\":" + randomEvent(random) + "}");
+            case "wishlist" -> {
+                user.send("POST /api/attendee/wishlist/{id}", "POST", "/api/attendee/wishlist/" + randomEvent(random), null);
+                user.get("GET /api/attendee/wishlist", "/api/attendee/wishlist");
+            }
+            case "review" -> {
+                Long pending = user.reviewable.poll();
+                long eventId = pending != null ? pending : randomEvent(random);
+                user.get("GET /api/attendee/events/{id}/reviews/page", "/api/attendee/events/" + eventId + "/reviews/page?size=20");
+                if (pending != null) {
+                    String feedback = SyntheticDataGenerator.words(random, 12);
+                    user.send("POST /api/attendee/events/{id}/reviews", "POST", "/api/attendee/events/" + eventId + "/reviews",
+                            "{\"rating\":" + (1 + random.nextInt(5)) + ",\"feedback\":\"" + feedback + "\"}");
+                }
+            }
+            default -> throw new IllegalArgumentException("Unknown scenario: " + scenario);
+        }
+    }
+
+    // Popular events get more traffic: squaring a uniform draw favours the front of the sample
+    private long randomEvent(Random random) {
+        double draw = random.nextDouble();
+        return eventIds.get((int) (draw * draw * eventIds.size()));
+    }
+
+    private VirtualUser login(String username, String password, Random random) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(JSON.writeValueAsString(Map.of("username", username, "password", password))))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed for " + username + ": " + response.statusCode() + " " + response.body());
+        }
+        VirtualUser user = new VirtualUser(JSON.readTree(response.body()).path("token").asText(), random);
+        user.userId = require(user.get("GET /api/user/me", "/api/user/me"), "profile of " + username).path("userId").asLong();
+        // Past events this attendee attended, for the review scenario
+        JsonNode registered = require(user.get("GET /api/attendee/events/my-registrations",
+                "/api/attendee/events/my-registrations"), "registrations of " + username);
+        LocalDateTime now = LocalDateTime.now();
+        for (JsonNode event : registered) {
+            if (LocalDateTime.parse(event.path("dateTime").asText()).isBefore(now)) {
+                user.reviewable.add(event.path("eventId").asLong());
+            }
+        }
+        return user;
+    }
+
+    private void sampleCatalog(VirtualUser user) {
+        String cursor = null;
+        do {
+            JsonNode page = require(user.get("GET /api/attendee/events/page", "/api/attendee/events/page?size=100"
+                    + (cursor != null ? "&cursor=" + cursor : "")), "catalog page");
+            page.path("events").forEach(event -> eventIds.add(event.path("eventId").asLong()));
+            cursor = page.path("hasMore").asBoolean() ? page.path("nextCursor").asText() : null;
+        } while (cursor != null && eventIds.size() < CATALOG_SAMPLE);
+        if (eventIds.isEmpty()) {
+            throw new IllegalStateException("No events found, is the loadtest profile active on the server?");
+        }
+    }
+
+    private static JsonNode require(JsonNode response, String what) {
+        if (response == null) {
+            throw new IllegalStateException("Could not fetch " + what);
+        }
+        return response;
+    }
+
+    private static Map<String, Object> report(List<VirtualUser> virtualUsers, double seconds) {
+        Map<String, List<Long>> latencies = new TreeMap<>();
+        Map<String, int[]> failures = new HashMap<>();
+        for (VirtualUser user : virtualUsers) {
+            user.latencies.forEach((endpoint, samples) -> latencies.computeIfAbsent(endpoint, k -> new ArrayList<>()).addAll(samples));
+            user.failures.forEach((endpoint, counts) -> {
+                int[] merged = failures.computeIfAbsent(endpoint, k -> new int[2]);
+                merged[0] += counts[0];
+                merged[1] += counts[1];
+            });
+        }
+
+        System.out.printf("%n%-48s %8s %8s %8s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "rejected", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        long totalRequests = 0;
+        for (Map.Entry<String, List<Long>> entry : latencies.entrySet()) {
+            long[] sorted = entry.getValue().stream().mapToLong(Long::longValue).sorted().toArray();
+            int[] failed = failures.getOrDefault(entry.getKey(), new int[2]);
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("requests", sorted.length);
+            stats.put("rejected", failed[0]);
+            stats.put("errors", failed[1]);
+            stats.put("throughputPerSecond", sorted.length / seconds);
+            stats.put("p50Millis", percentile(sorted, 0.50) / 1e6);
+            stats.put("p99Millis", percentile(sorted, 0.99) / 1e6);
+            stats.put("maxMillis", sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6);
+            endpoints.put(entry.getKey(), stats);
+            totalRequests += sorted.length;
+            System.out.printf("%-48s %8d %8d %8d %9.1f %9.2f %9.2f %9.2f%n", entry.getKey(), sorted.length, failed[0], failed[1],
+                    stats.get("throughputPerSecond"), stats.get("p50Millis"), stats.get("p99Millis"), stats.get("maxMillis"));
+        }
+        System.out.printf("%nTotal: %d requests in %.1fs (%.1f req/s)%n", totalRequests, seconds, totalRequests / seconds);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("virtualUsers", virtualUsers.size());
+        result.put("durationSeconds", seconds);
+        result.put("totalRequests", totalRequests);
+        result.put("throughputPerSecond", totalRequests / seconds);
+        result.put("endpoints", endpoints);
+        return result;
+    }
+
+    // Nearest-rank percentile over sorted nanosecond samples
+    static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        return options;
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        Arrays.stream(mix.split(",")).map(String::trim).filter(part -> !part.isEmpty()).forEach(part -> {
+            String[] pair = part.split(":");
+            weights.put(pair[0], Integer.parseInt(pair[1]));
+        });
+        return weights;
+    }
+
+    // One simulated attendee; only ever touched by its own thread
+    private class VirtualUser {
+
+        final String token;
+        final Random random;
+        final Map<String, List<Long>> latencies = new HashMap<>();
+        // [rejected, errors] per endpoint
+        final Map<String, int[]> failures = new HashMap<>();
+        final Deque<Long> reviewable = new ArrayDeque<>();
+        long userId;
+        String cursor;
+
+        VirtualUser(String token, Random random) {
+            this.token = token;
+            this.random = random;
+        }
+
+        JsonNode get(String endpoint, String path) {
+            return send(endpoint, "GET", path, null);
+        }
+
+        JsonNode send(String endpoint, String method, String path, String body) {
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Authorization", "Bearer " + token);
+            if (body != null) {
+                request.header("Content-Type", "application/json");
+            }
+            request.method(method, body != null ? HttpRequest.BodyPublishers.ofString(body) : HttpRequest.BodyPublishers.noBody());
+
+            long started = System.nanoTime();
+            int status;
+            String responseBody;
+            try {
+                HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+                status = response.statusCode();
+                responseBody = response.body();
+            } catch (IOException ex) {
+                status = -1;
+                responseBody = null;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            latencies.computeIfAbsent(endpoint, k -> new ArrayList<>()).add(System.nanoTime() - started);
+            if (status < 200 || status >= 300) {
+                failures.computeIfAbsent(endpoint, k -> new int[2])[status >= 400 && status < 500 || status == 503 ? 0 : 1]++;
+                return null;
+            }
+            try {
+                return responseBody.startsWith("{") || responseBody.startsWith("[") ? JSON.readTree(responseBody) : null;
+            } catch (IOException ex) {
+                return null;
+            }
+        }
+    }
+}
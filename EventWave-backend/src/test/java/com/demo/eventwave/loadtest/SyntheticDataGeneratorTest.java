@@ -0,0 +1,70 @@
+package com.demo.eventwave.loadtest;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class SyntheticDataGeneratorTest {
+
+    // Stores passwords as given; hashing cost is not what this test is about
+    private static final PasswordEncoder PLAIN_TEXT = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.contentEquals(rawPassword);
+        }
+    };
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Test
+    void generate_KeepsDerivedCountersConsistent() {
+        new SyntheticDataGenerator(jdbc, PLAIN_TEXT,
+                3, 200, 500, 8, 5, 0.5, 1.1, "secret", 7, 100).generate();
+
+        assertThat(count("SELECT COUNT(*) FROM users WHERE role = 'ORGANIZER'")).isEqualTo(3);
+        assertThat(count("SELECT COUNT(*) FROM events")).isEqualTo(200);
+        assertThat(count("SELECT COUNT(*) FROM registrations")).isEqualTo(500 * 8);
+        assertThat(count("SELECT COUNT(DISTINCT category) FROM events")).isGreaterThan(1);
+
+        // seats_taken matches confirmed registrations and never exceeds capacity
+        assertThat(count("SELECT COUNT(*) FROM events e WHERE e.seats_taken > e.capacity OR e.seats_taken <> " +
+                "(SELECT COUNT(*) FROM registrations r WHERE r.event_id = e.event_id AND r.status = 'CONFIRMED')")).isZero();
+        // Overflow goes to the waitlist only once an event is full
+        assertThat(count("SELECT COUNT(*) FROM registrations r JOIN events e ON e.event_id = r.event_id " +
+                "WHERE r.status = 'WAITLISTED' AND e.seats_taken < e.capacity")).isZero();
+
+        // Aggregates match the reviews, which only exist for past events the reviewer attended
+        assertThat(count("SELECT COUNT(*) FROM reviews")).isPositive();
+        assertThat(count("SELECT COUNT(*) FROM event_review_stats s WHERE s.review_count <> " +
+                "(SELECT COUNT(*) FROM reviews r WHERE r.event_id = s.event_id) OR s.rating_sum <> " +
+                "(SELECT COALESCE(SUM(r.rating), 0) FROM reviews r WHERE r.event_id = s.event_id)")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM reviews r JOIN events e ON e.event_id = r.event_id " +
+                "WHERE e.date_time > CURRENT_TIMESTAMP OR NOT EXISTS (SELECT 1 FROM registrations g " +
+                "WHERE g.event_id = r.event_id AND g.user_id = r.user_id AND g.status = 'CONFIRMED')")).isZero();
+
+        // Popularity is skewed: the busiest tenth of events holds most of the registrations
+        List<Integer> perEvent = jdbc.queryForList(
+                "SELECT COUNT(*) FROM registrations GROUP BY event_id ORDER BY COUNT(*) DESC", Integer.class);
+        int top = perEvent.subList(0, 20).stream().mapToInt(Integer::intValue).sum();
+        assertThat(top).isGreaterThan(500 * 8 / 2);
+    }
+
+    private long count(String sql) {
+        return jdbc.queryForObject(sql, Long.class);
+    }
+}
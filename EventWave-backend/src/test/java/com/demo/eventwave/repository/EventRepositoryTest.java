@@ -0,0 +1,110 @@
+package com.demo.eventwave.repository;
+
+import com.demo.eventwave.entity.Event;
+import com.demo.eventwave.entity.EventCategory;
+import com.demo.eventwave.entity.Role;
+import com.demo.eventwave.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards against N+1 organizer loading: every listing must cost a single statement
+ * no matter how many distinct organizers the events belong to.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class EventRepositoryTest {
+
+    private static final int ORGANIZERS = 5;
+    private static final int EVENTS_PER_ORGANIZER = 6;
+    private static final long MAX_STATEMENTS_PER_LISTING = 1;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    private Statistics statistics;
+    private final List<User> organizers = new ArrayList<>();
+    private final List<Long> eventIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        for (int o = 0; o < ORGANIZERS; o++) {
+            User organizer = entityManager.persist(new User(null, "organizer" + o,
+                    "organizer" + o + "@example.com", "secret", Role.ORGANIZER));
+            organizers.add(organizer);
+            for (int e = 0; e < EVENTS_PER_ORGANIZER; e++) {
+                Event event = entityManager.persist(new Event("Jazz night " + e, "Live jazz " + e,
+                        LocalDateTime.now().plusDays(e + 1), "Bengaluru", 100, BigDecimal.TEN,
+                        organizer, EventCategory.MUSIC, null));
+                eventIds.add(event.getEventId());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findAll_LoadsOrganizersInSameStatement() {
+        assertSingleStatement(() -> eventRepository.findAll(), ORGANIZERS * EVENTS_PER_ORGANIZER);
+    }
+
+    @Test
+    void findAllById_LoadsOrganizersInSameStatement() {
+        assertSingleStatement(() -> eventRepository.findAllById(eventIds), eventIds.size());
+    }
+
+    @Test
+    void searchMethods_LoadOrganizersInSameStatement() {
+        assertSingleStatement(() -> eventRepository.findByTitleContainingIgnoreCase("JAZZ"), eventIds.size());
+        assertSingleStatement(() -> eventRepository.findByDescriptionContainingIgnoreCase("live"), eventIds.size());
+    }
+
+    @Test
+    void filterMethods_LoadOrganizersInSameStatement() {
+        assertSingleStatement(() -> eventRepository.findByCategory(EventCategory.MUSIC), eventIds.size());
+        assertSingleStatement(() -> eventRepository.findByLocationContainingIgnoreCase("galur"), eventIds.size());
+        assertSingleStatement(() -> eventRepository.findByDateTimeBetween(
+                LocalDateTime.now(), LocalDateTime.now().plusDays(30)), eventIds.size());
+        assertSingleStatement(() -> eventRepository.findPageAfter(
+                null, null, null, null, null, null, Limit.of(100)), eventIds.size());
+    }
+
+    @Test
+    void findByOrganizer_LoadsOrganizerInSameStatement() {
+        assertSingleStatement(() -> eventRepository.findByOrganizer(organizers.get(0)), EVENTS_PER_ORGANIZER);
+    }
+
+    private void assertSingleStatement(Supplier<List<Event>> listing, int expectedSize) {
+        entityManager.clear();
+        statistics.clear();
+
+        List<Event> events = listing.get();
+        events.forEach(event -> event.getOrganizer().getUserName()); // what every toDto does
+
+        assertThat(events).hasSize(expectedSize);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(MAX_STATEMENTS_PER_LISTING);
+    }
+}
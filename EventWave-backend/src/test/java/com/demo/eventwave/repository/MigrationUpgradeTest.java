@@ -0,0 +1,81 @@
+package com.demo.eventwave.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Upgrades a database that was created by ddl-auto=update before migrations existed: it
+ * holds the entity schema of that time and data but no Flyway history, so it is baselined
+ * at V1 and only V2 onwards run, as in production (spring.flyway.baseline-on-migrate).
+ */
+class MigrationUpgradeTest {
+
+    // What ddl-auto=update left behind, written out here rather than read from V1 so the test also catches V1 drifting
+    private static final String LEGACY_SCHEMA = """
+            CREATE TABLE users (user_id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY, user_name VARCHAR(255) NOT NULL UNIQUE,
+                email VARCHAR(255) NOT NULL, password VARCHAR(255) NOT NULL, role VARCHAR(32) NOT NULL);
+            CREATE TABLE events (event_id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY, title VARCHAR(255) NOT NULL,
+                description TEXT, date_time DATETIME(6) NOT NULL, location VARCHAR(255) NOT NULL, capacity INT NOT NULL,
+                price DECIMAL(38, 2) NOT NULL, organizer_id BIGINT REFERENCES users (user_id),
+                category VARCHAR(32) NOT NULL, image_url VARCHAR(255));
+            CREATE TABLE registrations (registration_id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+                user_id BIGINT NOT NULL REFERENCES users (user_id), event_id BIGINT NOT NULL REFERENCES events (event_id),
+                status VARCHAR(32) NOT NULL, UNIQUE (user_id, event_id));
+            CREATE TABLE reviews (review_id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+                event_id BIGINT NOT NULL REFERENCES events (event_id), user_id BIGINT NOT NULL REFERENCES users (user_id),
+                feedback TEXT, created_at DATETIME(6) NOT NULL);
+            CREATE TABLE wishlists (id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+                user_id BIGINT NOT NULL REFERENCES users (user_id), event_id BIGINT NOT NULL REFERENCES events (event_id),
+                created_at DATETIME(6) NOT NULL)
+            """;
+
+    private static final String URL = "jdbc:h2:mem:upgrade;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Test
+    void migrate_UpgradesABaselineDatabaseAndBackfillsCounters() throws Exception {
+        try (Connection connection = DriverManager.getConnection(URL);
+             Statement statement = connection.createStatement()) {
+            for (String ddl : LEGACY_SCHEMA.split(";")) {
+                if (!ddl.isBlank()) {
+                    statement.execute(ddl);
+                }
+            }
+            statement.execute("INSERT INTO users (user_id, user_name, email, password, role) VALUES " +
+                    "(1, 'organizer', 'o@example.com', 'x', 'ORGANIZER'), (2, 'attendee', 'a@example.com', 'x', 'USER')");
+            statement.execute("INSERT INTO events (event_id, title, date_time, location, capacity, price, organizer_id, category) " +
+                    "VALUES (10, 'Live', '2030-01-01 19:00:00', 'Bengaluru', 100, 10, 1, 'MUSIC')");
+            statement.execute("INSERT INTO registrations (user_id, event_id, status) VALUES (2, 10, 'CONFIRMED')");
+            statement.execute("INSERT INTO reviews (event_id, user_id, feedback, created_at) " +
+                    "VALUES (10, 2, 'Great', '2030-01-02 10:00:00')");
+        }
+
+        Flyway.configure()
+                .dataSource(URL, null, null)
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        try (Connection connection = DriverManager.getConnection(URL);
+             Statement statement = connection.createStatement()) {
+            assertThat(single(statement, "SELECT seats_taken FROM events WHERE event_id = 10")).isEqualTo(1);
+            assertThat(single(statement, "SELECT review_count FROM event_review_stats WHERE event_id = 10")).isEqualTo(1);
+            assertThat(single(statement, "SELECT rating_count FROM event_review_stats WHERE event_id = 10")).isZero();
+            statement.execute("DROP ALL OBJECTS");
+        }
+    }
+
+    private static long single(Statement statement, String sql) throws Exception {
+        try (ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.demo.eventwave.repository;
+
+import com.demo.eventwave.entity.*;
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Builds the schema from the Flyway migrations (validated against the entities), seeds it,
+ * then runs every repository query and EXPLAINs each statement it issued. A plan that
+ * falls back to a full table scan fails the test unless the query is listed in
+ * {@link #SCANS_BY_DESIGN}.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:queryplan;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.demo.eventwave.repository.QueryPlanTest$RecordingInspector"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class QueryPlanTest {
+
+    // Whole-table reads, or substring matches that no B-tree index can serve
+    private static final Set<String> SCANS_BY_DESIGN = Set.of(
+            "EventRepository.findAll",
+            "EventRepository.findByTitleContainingIgnoreCase",
+            "EventRepository.findByDescriptionContainingIgnoreCase",
+            "EventRepository.findByLocationContainingIgnoreCase");
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private WishlistRepository wishlistRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventReviewStatsRepository eventReviewStatsRepository;
+
+    @Autowired
+    private EventSeriesRepository eventSeriesRepository;
+
+    private User organizer;
+    private User attendee;
+    private Event event;
+
+    @BeforeEach
+    void seed() {
+        List<User> users = new ArrayList<>();
+        for (int u = 0; u < 30; u++) {
+            users.add(entityManager.persist(new User(null, "user" + u, "user" + u + "@example.com", "secret",
+                    u < 3 ? Role.ORGANIZER : Role.USER)));
+        }
+        organizer = users.get(0);
+        attendee = users.get(3);
+        EventCategory[] categories = EventCategory.values();
+        List<Event> events = new ArrayList<>();
+        for (int e = 0; e < 60; e++) {
+            Event created = entityManager.persist(new Event("Event " + e, "Description " + e,
+                    LocalDateTime.now().plusDays(e - 30), "City " + (e % 7), 100, BigDecimal.TEN,
+                    users.get(e % 3), categories[e % categories.length], null));
+            entityManager.persist(new EventReviewStats(created.getEventId()));
+            events.add(created);
+        }
+        event = events.get(0);
+        for (int u = 3; u < users.size(); u++) {
+            for (int e = 0; e < events.size(); e += 3) {
+                Event target = events.get((e + u) % events.size());
+                entityManager.persist(new Registration(null, users.get(u), target, RegistrationStatus.CONFIRMED));
+                Review review = new Review(target, users.get(u), "Feedback");
+                review.setRating(1 + u % 5);
+                entityManager.persist(review);
+                Wishlist wishlist = new Wishlist();
+                wishlist.setUser(users.get(u));
+                wishlist.setEvent(target);
+                entityManager.persist(wishlist);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        session().doWork(connection -> connection.createStatement().execute("ANALYZE"));
+    }
+
+    @Test
+    void repositoryQueriesUseIndexes() {
+        Long eventId = event.getEventId();
+        Long userId = attendee.getUserId();
+        LocalDateTime now = LocalDateTime.now();
+
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("EventRepository.findAll", () -> eventRepository.findAll());
+        queries.put("EventRepository.findAllById", () -> eventRepository.findAllById(List.of(eventId)));
+        queries.put("EventRepository.findByTitleContainingIgnoreCase", () -> eventRepository.findByTitleContainingIgnoreCase("event"));
+        queries.put("EventRepository.findByDescriptionContainingIgnoreCase", () -> eventRepository.findByDescriptionContainingIgnoreCase("desc"));
+        queries.put("EventRepository.findByLocationContainingIgnoreCase", () -> eventRepository.findByLocationContainingIgnoreCase("city"));
+        queries.put("EventRepository.findByDateTimeBetween", () -> eventRepository.findByDateTimeBetween(now, now.plusDays(7)));
+        queries.put("EventRepository.findByOrganizer", () -> eventRepository.findByOrganizer(organizer));
+        queries.put("EventRepository.countByOrganizer", () -> eventRepository.countByOrganizer(organizer));
+        queries.put("EventRepository.findByOrganizerWithReviewStats", () -> eventRepository.findByOrganizerWithReviewStats(organizer.getUserId()));
+        queries.put("EventRepository.findByCategory", () -> eventRepository.findByCategory(EventCategory.MUSIC));
+        queries.put("EventRepository.findPageAfter", () -> eventRepository.findPageAfter(null, null, null, null, now, 1L, Limit.of(20)));
+        queries.put("EventRepository.findPageAfter(category)", () -> eventRepository.findPageAfter(EventCategory.MUSIC, null, null, null, null, null, Limit.of(20)));
+        queries.put("EventRepository.findBySeriesIdAndDateTime", () -> eventRepository.findBySeriesIdAndDateTime(1L, now));
+        queries.put("EventRepository.findMaterializedOccurrences", () -> eventRepository.findMaterializedOccurrences(List.of(1L, 2L), now, now.plusDays(30)));
+        queries.put("EventRepository.reserveSeat", () -> eventRepository.reserveSeat(eventId));
+        queries.put("EventRepository.reserveSeats", () -> eventRepository.reserveSeats(eventId, 2));
+        queries.put("EventRepository.releaseSeat", () -> eventRepository.releaseSeat(eventId));
+
+        queries.put("ReviewRepository.findByEvent_EventId", () -> reviewRepository.findByEvent_EventId(eventId));
+        queries.put("ReviewRepository.findPageBefore", () -> reviewRepository.findPageBefore(eventId, now, Long.MAX_VALUE, true, Limit.of(20)));
+        queries.put("ReviewRepository.countByEvent_EventId", () -> reviewRepository.countByEvent_EventId(eventId));
+        queries.put("ReviewRepository.countByRating", () -> reviewRepository.countByRating(eventId));
+        queries.put("ReviewRepository.existsByEventAndUser", () -> reviewRepository.existsByEventAndUser(event, attendee));
+
+        queries.put("RegistrationRepository.findByUserAndEvent", () -> registrationRepository.findByUserAndEvent(attendee, event));
+        queries.put("RegistrationRepository.findByUser_UserIdAndEvent_EventId", () -> registrationRepository.findByUser_UserIdAndEvent_EventId(userId, eventId));
+        queries.put("RegistrationRepository.findByEvent", () -> registrationRepository.findByEvent(event));
+        queries.put("RegistrationRepository.findByEventAndStatus", () -> registrationRepository.findByEventAndStatus(event, RegistrationStatus.CONFIRMED));
+        queries.put("RegistrationRepository.findByEventAndStatusOrderByRegistrationIdAsc", () -> registrationRepository.findByEventAndStatusOrderByRegistrationIdAsc(event, RegistrationStatus.WAITLISTED));
+        queries.put("RegistrationRepository.countByEvent", () -> registrationRepository.countByEvent(event));
+        queries.put("RegistrationRepository.countByEventAndStatus", () -> registrationRepository.countByEventAndStatus(event, RegistrationStatus.CONFIRMED));
+        queries.put("RegistrationRepository.findByUser", () -> registrationRepository.findByUser(attendee));
+        queries.put("RegistrationRepository.findRegisteredEvents", () -> registrationRepository.findRegisteredEvents("user3", null, null));
+        queries.put("RegistrationRepository.findRegisteredEvents(upcoming)", () -> registrationRepository.findRegisteredEvents("user3", now, null));
+        queries.put("RegistrationRepository.findAttendeePageAfter", () -> registrationRepository.findAttendeePageAfter(eventId, RegistrationStatus.CONFIRMED, 1L, Limit.of(100)));
+        queries.put("RegistrationRepository.existsByUserAndEventAndStatus", () -> registrationRepository.existsByUserAndEventAndStatus(attendee, event, RegistrationStatus.CONFIRMED));
+        queries.put("RegistrationRepository.findRegistrationStatusRows", () -> registrationRepository.findRegistrationStatusRows(eventId, List.of(userId, organizer.getUserId())));
+        queries.put("RegistrationRepository.findFirstByEvent_EventIdAndStatusOrderByRegistrationIdAsc", () -> registrationRepository.findFirstByEvent_EventIdAndStatusOrderByRegistrationIdAsc(eventId, RegistrationStatus.WAITLISTED));
+
+        queries.put("WishlistRepository.findByUserUserId", () -> wishlistRepository.findByUserUserId(userId));
+        queries.put("WishlistRepository.existsByUserUserIdAndEventEventId", () -> wishlistRepository.existsByUserUserIdAndEventEventId(userId, eventId));
+        queries.put("WishlistRepository.deleteByUserUserIdAndEventEventId", () -> wishlistRepository.deleteByUserUserIdAndEventEventId(userId, eventId));
+        queries.put("WishlistRepository.existsByUserAndEvent", () -> wishlistRepository.existsByUserAndEvent(attendee, event));
+        queries.put("WishlistRepository.findEventIdsByUserId", () -> wishlistRepository.findEventIdsByUserId(userId));
+
+        queries.put("UserRepository.findByUserName", () -> userRepository.findByUserName("user3"));
+        queries.put("UserRepository.existsByUserName", () -> userRepository.existsByUserName("user3"));
+        queries.put("UserRepository.existsByEmail", () -> userRepository.existsByEmail("user3@example.com"));
+
+        queries.put("EventSeriesRepository.findRunningBetween", () -> eventSeriesRepository.findRunningBetween(null, null, now, now.plusDays(30)));
+
+        queries.put("EventReviewStatsRepository.recordReview", () -> eventReviewStatsRepository.recordReview(eventId, 4));
+
+        Map<String, String> scans = new LinkedHashMap<>();
+        queries.forEach((name, query) -> {
+            RecordingInspector.SQL.clear();
+            query.run();
+            entityManager.flush();
+            assertThat(RecordingInspector.SQL).as("statements issued by %s", name).isNotEmpty();
+            for (String sql : RecordingInspector.SQL) {
+                String plan = explain(sql);
+                if (plan.contains("tableScan") && !SCANS_BY_DESIGN.contains(name)) {
+                    scans.put(name, plan);
+                }
+            }
+        });
+
+        assertThat(scans).as("repository queries planned as full table scans").isEmpty();
+    }
+
+    // Parameters are left as NULL: H2 picks the access path when the statement is prepared
+    private String explain(String sql) {
+        return session().doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (int i = 1; i <= statement.getParameterMetaData().getParameterCount(); i++) {
+                    statement.setObject(i, null);
+                }
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rows = statement.executeQuery()) {
+                    while (rows.next()) {
+                        plan.append(rows.getString(1));
+                    }
+                }
+                return plan.toString();
+            }
+        });
+    }
+
+    private Session session() {
+        return entityManager.getEntityManager().unwrap(Session.class);
+    }
+
+    public static class RecordingInspector implements StatementInspector {
+
+        static final List<String> SQL = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            SQL.add(sql);
+            return sql;
+        }
+    }
+}
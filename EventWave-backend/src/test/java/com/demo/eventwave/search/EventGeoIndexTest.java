@@ -0,0 +1,110 @@
+package com.demo.eventwave.search;
+
+import com.demo.eventwave.entity.EventCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class EventGeoIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2030, 6, 1, 18, 0);
+
+    private EventGeoIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new EventGeoIndex();
+        index.index(1L, 12.9716, 77.5946, EventCategory.MUSIC, NOW);                // Bengaluru centre
+        index.index(2L, 12.9352, 77.6245, EventCategory.TECHNOLOGY, NOW.plusDays(1)); // Koramangala, ~5 km
+        index.index(3L, 12.2958, 76.6394, EventCategory.MUSIC, NOW.plusDays(2));     // Mysuru, ~128 km
+        index.index(4L, null, null, EventCategory.MUSIC, NOW);
+    }
+
+    @Test
+    void withinRadius_ReturnsNearestFirstWithDistances() {
+        List<EventGeoIndex.Hit> hits = index.withinRadius(12.9716, 77.5946, 10, null, null, null, 10);
+
+        assertThat(hits).extracting(EventGeoIndex.Hit::eventId).containsExactly(1L, 2L);
+        assertThat(hits.get(0).distanceKm()).isCloseTo(0, within(1e-6));
+        assertThat(index.withinRadius(12.9716, 77.5946, 150, null, null, null, 10).get(2).distanceKm())
+                .isCloseTo(128.017, within(0.01));
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void withinRadius_AppliesCategoryDateAndLimit() {
+        assertThat(index.withinRadius(12.9716, 77.5946, 150, EventCategory.MUSIC, null, null, 10))
+                .extracting(EventGeoIndex.Hit::eventId).containsExactly(1L, 3L);
+        assertThat(index.withinRadius(12.9716, 77.5946, 150, null, NOW.plusHours(1), NOW.plusDays(2), 10))
+                .extracting(EventGeoIndex.Hit::eventId).containsExactly(2L, 3L);
+        assertThat(index.withinRadius(12.9716, 77.5946, 150, null, null, null, 1))
+                .extracting(EventGeoIndex.Hit::eventId).containsExactly(1L);
+    }
+
+    @Test
+    void index_MovesAndRemovesEvents() {
+        index.index(1L, 12.2958, 76.6394, EventCategory.MUSIC, NOW);
+        index.remove(2L);
+
+        assertThat(index.withinRadius(12.9716, 77.5946, 10, null, null, null, 10)).isEmpty();
+        assertThat(index.withinRadius(12.2958, 76.6394, 1, null, null, null, 10))
+                .extracting(EventGeoIndex.Hit::eventId).containsExactly(1L, 3L);
+
+        index.index(3L, null, null, EventCategory.MUSIC, NOW);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void withinBox_OrdersBySoonestAndHandlesTheAntimeridian() {
+        assertThat(index.withinBox(12.0, 76.0, 13.5, 78.0, null, null, null, 10)).containsExactly(1L, 2L, 3L);
+        assertThat(index.withinBox(12.9, 77.6, 13.0, 77.7, null, null, null, 10)).containsExactly(2L);
+
+        index.index(10L, -17.7, 178.4, EventCategory.SPORTS, NOW);   // Fiji, west of the line
+        index.index(11L, -17.8, -179.9, EventCategory.SPORTS, NOW);  // just east of it
+        assertThat(index.withinBox(-18.0, 178.0, -17.0, -179.0, null, null, null, 10)).containsExactly(10L, 11L);
+        assertThat(index.withinRadius(-17.8, 179.95, 20, null, null, null, 10))
+                .extracting(EventGeoIndex.Hit::eventId).containsExactly(11L);
+    }
+
+    @Test
+    void withinRadius_MatchesABruteForceScan() {
+        Random random = new Random(7);
+        EventGeoIndex large = new EventGeoIndex();
+        List<double[]> points = new ArrayList<>();
+        for (long id = 0; id < 20_000; id++) {
+            double latitude = 12.9716 + random.nextGaussian() * 0.3;
+            double longitude = 77.5946 + random.nextGaussian() * 0.3;
+            large.index(id, latitude, longitude, EventCategory.values()[(int) (id % EventCategory.values().length)], NOW);
+            points.add(new double[]{id, latitude, longitude});
+        }
+
+        for (double radius : new double[]{0.5, 3, 10, 40}) {
+            List<Long> expected = points.stream()
+                    .filter(p -> EventGeoIndex.haversineKm(13.0, 77.6, p[1], p[2]) <= radius)
+                    .sorted(Comparator.<double[]>comparingDouble(p -> EventGeoIndex.haversineKm(13.0, 77.6, p[1], p[2]))
+                            .thenComparingDouble(p -> p[0]))
+                    .limit(50)
+                    .map(p -> (long) p[0])
+                    .toList();
+            assertThat(large.withinRadius(13.0, 77.6, radius, null, null, null, 50))
+                    .extracting(EventGeoIndex.Hit::eventId).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void coordinateError_RequiresBothInRange() {
+        assertThat(EventGeoIndex.coordinateError(null, null)).isNull();
+        assertThat(EventGeoIndex.coordinateError(12.9, 77.6)).isNull();
+        assertThat(EventGeoIndex.coordinateError(12.9, null)).isNotNull();
+        assertThat(EventGeoIndex.coordinateError(91.0, 0.0)).isNotNull();
+        assertThat(EventGeoIndex.coordinateError(0.0, Double.NaN)).isNotNull();
+    }
+}
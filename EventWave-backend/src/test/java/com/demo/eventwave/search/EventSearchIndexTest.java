@@ -0,0 +1,57 @@
+package com.demo.eventwave.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventSearchIndexTest {
+
+    private EventSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new EventSearchIndex();
+        index.index(1L, "Jazz Night", "Live music by the lake", "Bengaluru");
+        index.index(2L, "Tech Summit", "Talks on music technology and AI", "Mysuru");
+        index.index(3L, "Food Festival", "Street food and jazz bands", "Bengaluru");
+    }
+
+    @Test
+    void search_RanksTitleMatchesAboveDescriptionMatches() {
+        assertThat(index.search("jazz", 10)).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void search_MatchesPrefixesCaseInsensitively() {
+        assertThat(index.search("TECH", 10)).containsExactly(2L);
+        assertThat(index.search("ben", 10)).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    void search_RequiresEveryToken() {
+        assertThat(index.search("music bengaluru", 10)).containsExactly(1L);
+        assertThat(index.search("jazz mysuru", 10)).isEmpty();
+    }
+
+    @Test
+    void search_HonoursLimit() {
+        assertThat(index.search("b", 1)).hasSize(1);
+    }
+
+    @Test
+    void index_ReplacesPreviousTermsOnUpdate() {
+        index.index(1L, "Blues Night", "Live music by the lake", "Bengaluru");
+
+        assertThat(index.search("jazz", 10)).containsExactly(3L);
+        assertThat(index.search("blues", 10)).containsExactly(1L);
+    }
+
+    @Test
+    void remove_DropsEventFromResults() {
+        index.remove(3L);
+
+        assertThat(index.search("food", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,270 @@
+package com.demo.eventwave.service;
+
+import com.demo.eventwave.cache.EventDtoCache;
+import com.demo.eventwave.config.CacheConfig;
+import com.demo.eventwave.dto.EventDTO;
+import com.demo.eventwave.dto.PageDTO;
+import com.demo.eventwave.dto.RegisteredEventDTO;
+import com.demo.eventwave.entity.*;
+import com.demo.eventwave.search.EventGeoIndex;
+import com.demo.eventwave.search.EventSearchIndex;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({AttendeeEventService.class, EventSeriesService.class, ReviewStatsService.class, EventSearchIndex.class, EventGeoIndex.class, CacheConfig.class})
+class AttendeeEventServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private AttendeeEventService attendeeEventService;
+
+    @Autowired
+    private EventDtoCache eventDtoCache;
+
+    @Autowired
+    private EventGeoIndex eventGeoIndex;
+
+    private Statistics statistics;
+    private User organizer;
+    private User attendee;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        eventDtoCache.clear();
+        eventGeoIndex.clear();
+        organizer = entityManager.persist(new User(null, "organizer", "organizer@example.com", "secret", Role.ORGANIZER));
+        attendee = entityManager.persist(new User(null, "attendee", "attendee@example.com", "secret", Role.USER));
+    }
+
+    @Test
+    void getAllEvents_MarksWishlistedEvents() {
+        Event wishlisted = persistEvent(1);
+        Event other = persistEvent(2);
+        entityManager.persist(new Wishlist(null, attendee, wishlisted, LocalDateTime.now()));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<EventDTO> events = attendeeEventService.getAllEvents("attendee");
+
+        assertThat(events).hasSize(2);
+        assertThat(events).filteredOn(e -> e.getEventId().equals(wishlisted.getEventId()))
+                .singleElement().extracting(EventDTO::getInWishlist).isEqualTo(true);
+        assertThat(events).filteredOn(e -> e.getEventId().equals(other.getEventId()))
+                .singleElement().extracting(EventDTO::getInWishlist).isEqualTo(false);
+    }
+
+    @Test
+    void getAllEvents_LeavesWishlistUnsetForAnonymousUser() {
+        persistEvent(1);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(attendeeEventService.getAllEvents(null))
+                .extracting(EventDTO::getInWishlist)
+                .containsOnlyNulls();
+    }
+
+    @Test
+    void getAllEvents_QueryCountDoesNotGrowWithCatalogSize() {
+        long smallCatalog = countStatementsForCatalogOf(10);
+        long largeCatalog = countStatementsForCatalogOf(200);
+
+        // user lookup + events (organizer fetch-joined) + wishlist IDs
+        assertThat(smallCatalog).isPositive().isLessThanOrEqualTo(3);
+        assertThat(largeCatalog).isEqualTo(smallCatalog);
+    }
+
+    @Test
+    void getEventById_ServesRepeatReadsFromCacheWithPerUserWishlist() {
+        Event event = persistEvent(1);
+        entityManager.persist(new Wishlist(null, attendee, event, LocalDateTime.now()));
+        entityManager.flush();
+        entityManager.clear();
+
+        EventDTO anonymous = attendeeEventService.getEventById(event.getEventId(), null);
+        statistics.clear();
+        EventDTO forAttendee = attendeeEventService.getEventById(event.getEventId(), "attendee");
+
+        assertThat(anonymous.getInWishlist()).isNull();
+        assertThat(forAttendee.getInWishlist()).isTrue();
+        assertThat(forAttendee.getOrganizerName()).isEqualTo("organizer");
+        assertThat(statistics.getEntityStatistics(Event.class.getName()).getLoadCount()).isZero();
+        assertThat(eventDtoCache.stats().getHits()).isEqualTo(1);
+    }
+
+    @Test
+    void getEventsPage_WalksCatalogWithoutGapsOrDuplicates() {
+        LocalDateTime sameTime = LocalDateTime.now().plusDays(3).withNano(0);
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Event event = persistEvent(i);
+            if (i >= 2) {
+                event.setDateTime(sameTime); // ties are broken by event_id
+            }
+            expected.add(event.getEventId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            PageDTO<EventDTO> page = attendeeEventService.getEventsPage(null, null, null, null, null, cursor, 2);
+            page.getItems().forEach(e -> seen.add(e.getEventId()));
+            cursor = page.getNextCursor();
+            assertThat(page.isHasMore()).isEqualTo(cursor != null);
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void getEventsPage_ComposesWithFilters() {
+        for (int i = 0; i < 6; i++) {
+            Event event = persistEvent(i);
+            if (i % 2 == 0) {
+                event.setCategory(EventCategory.SPORTS);
+                event.setLocation("Mysuru");
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        PageDTO<EventDTO> page = attendeeEventService.getEventsPage(null, EventCategory.SPORTS, "mysu",
+                null, LocalDateTime.now().plusDays(4), null, 10);
+
+        assertThat(page.isHasMore()).isFalse();
+        assertThat(page.getItems()).extracting(EventDTO::getTitle).containsExactly("Event 0", "Event 2");
+    }
+
+    @Test
+    void getEventsRegisteredByUser_LoadsEverythingInOneStatement() {
+        Event past = entityManager.persist(new Event("Past", "Done", LocalDateTime.now().minusDays(3), "Bengaluru",
+                100, BigDecimal.TEN, organizer, EventCategory.MUSIC, null));
+        List<Event> upcoming = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            upcoming.add(persistEvent(i));
+        }
+        entityManager.persist(new Registration(null, attendee, past, RegistrationStatus.CONFIRMED));
+        for (Event event : upcoming) {
+            entityManager.persist(new Registration(null, attendee, event, RegistrationStatus.CONFIRMED));
+        }
+        entityManager.persist(new Registration(null, organizer, upcoming.get(0), RegistrationStatus.CONFIRMED));
+        entityManager.persist(new Registration(null, attendee, persistEvent(9), RegistrationStatus.WAITLISTED));
+        entityManager.persist(new Wishlist(null, attendee, upcoming.get(1), LocalDateTime.now()));
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics.clear();
+        List<RegisteredEventDTO> all = attendeeEventService.getEventsRegisteredByUser("attendee", null);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        assertThat(all).hasSize(7);
+        assertThat(all.get(0).getEventId()).isEqualTo(past.getEventId());
+        assertThat(all).allSatisfy(e -> assertThat(e.getOrganizerName()).isEqualTo("organizer"));
+        assertThat(all).filteredOn(RegisteredEventDTO::getInWishlist)
+                .singleElement().extracting(EventDTO::getEventId).isEqualTo(upcoming.get(1).getEventId());
+        assertThat(all).filteredOn(e -> e.getRegistrationStatus() == RegistrationStatus.WAITLISTED).hasSize(1);
+
+        assertThat(attendeeEventService.getEventsRegisteredByUser("attendee", "upcoming")).hasSize(6)
+                .allSatisfy(e -> assertThat(e.getDateTime()).isAfter(LocalDateTime.now()));
+        assertThat(attendeeEventService.getEventsRegisteredByUser("attendee", "past"))
+                .extracting(EventDTO::getEventId).containsExactly(past.getEventId());
+    }
+
+    @Test
+    void getEventsRegisteredByUser_TellsUnknownUsersFromUsersWithoutRegistrations() {
+        assertThat(attendeeEventService.getEventsRegisteredByUser("attendee", "upcoming")).isEmpty();
+        assertThatThrownBy(() -> attendeeEventService.getEventsRegisteredByUser("nobody", null))
+                .hasMessage("User not found");
+    }
+
+    @Test
+    void findEventsNearby_ReturnsNearestFirstWithDistanceAndWishlist() {
+        Event centre = persistEvent(1);
+        Event koramangala = persistEvent(2);
+        Event mysuru = persistEvent(3);
+        place(centre, 12.9716, 77.5946);
+        place(koramangala, 12.9352, 77.6245);
+        place(mysuru, 12.2958, 76.6394);
+        entityManager.persist(new Wishlist(null, attendee, koramangala, LocalDateTime.now()));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<EventDTO> nearby = attendeeEventService.findEventsNearby(12.97, 77.6, null, null, null, null, null, "attendee");
+
+        assertThat(nearby).extracting(EventDTO::getEventId).containsExactly(centre.getEventId(), koramangala.getEventId());
+        assertThat(nearby.get(0).getDistanceKm()).isLessThan(nearby.get(1).getDistanceKm());
+        assertThat(nearby.get(1).getInWishlist()).isTrue();
+        assertThat(nearby.get(1).getLatitude()).isEqualTo(12.9352);
+
+        // Fresh cache, so the hit counters other tests check stay untouched
+        eventDtoCache.clear();
+        assertThat(attendeeEventService.findEventsInBox(12.0, 76.0, 13.0, 78.0, null, null, null, 2, null))
+                .extracting(EventDTO::getEventId).containsExactly(centre.getEventId(), koramangala.getEventId());
+        assertThatThrownBy(() -> attendeeEventService.findEventsNearby(12.97, 77.6, 500.0, null, null, null, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> attendeeEventService.findEventsNearby(95, 77.6, null, null, null, null, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void place(Event event, double latitude, double longitude) {
+        event.setLatitude(latitude);
+        event.setLongitude(longitude);
+        eventGeoIndex.index(event);
+    }
+
+    private long countStatementsForCatalogOf(int size) {
+        entityManager.getEntityManager().createQuery("DELETE FROM Wishlist").executeUpdate();
+        entityManager.getEntityManager().createQuery("DELETE FROM Event").executeUpdate();
+        for (int i = 0; i < size; i++) {
+            Event event = persistEvent(i);
+            if (i % 3 == 0) {
+                entityManager.persist(new Wishlist(null, attendee, event, LocalDateTime.now()));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics.clear();
+        List<EventDTO> events = attendeeEventService.getAllEvents("attendee");
+        long statements = statistics.getPrepareStatementCount();
+
+        assertThat(events).hasSize(size);
+        assertThat(events).filteredOn(EventDTO::getInWishlist).hasSize((size + 2) / 3);
+        return statements;
+    }
+
+    private Event persistEvent(int index) {
+        return entityManager.persist(new Event("Event " + index, "Description " + index,
+                LocalDateTime.now().plusDays(index + 1), "Bengaluru", 100, BigDecimal.TEN,
+                organizer, EventCategory.MUSIC, null));
+    }
+}
@@ -0,0 +1,214 @@
+package com.demo.eventwave.service;
+
+import com.demo.eventwave.config.CacheConfig;
+import com.demo.eventwave.dto.EventDTO;
+import com.demo.eventwave.dto.EventImportResultDTO;
+import com.demo.eventwave.dto.EventImportRowDTO;
+import com.demo.eventwave.entity.*;
+import com.demo.eventwave.search.EventGeoIndex;
+import com.demo.eventwave.search.EventSearchIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({EventImportService.class, RegistrationService.class, EventSearchIndex.class, EventGeoIndex.class, CacheConfig.class,
+        SimpleMeterRegistry.class})
+class EventImportServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private EventImportService eventImportService;
+
+    @Autowired
+    private EventSearchIndex eventSearchIndex;
+
+    @Autowired
+    private EventGeoIndex eventGeoIndex;
+
+    private User organizer;
+
+    @BeforeEach
+    void setUp() {
+        organizer = entityManager.persist(new User(null, "organizer", "organizer@example.com", "secret", Role.ORGANIZER));
+        entityManager.flush();
+    }
+
+    // Tests that commit to see the after-commit index updates leave their rows behind otherwise
+    @AfterEach
+    void tearDown() {
+        jdbc.update("DELETE FROM registrations");
+        jdbc.update("DELETE FROM event_review_stats");
+        jdbc.update("DELETE FROM events");
+        jdbc.update("DELETE FROM users");
+    }
+
+    @Test
+    void importEvents_CreatesValidRowsInBatchesAndReportsTheRest() {
+        List<EventDTO> rows = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            rows.add(event("Season " + i, LocalDateTime.now().plusDays(1 + i % 300)));
+        }
+        rows.get(17).setTitle(" ");
+        rows.get(42).setCapacity(0);
+        rows.get(99).setCategory(null);
+
+        long started = System.nanoTime();
+        EventImportResultDTO result = eventImportService.importEvents(rows, organizer.getUserId());
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+
+        assertThat(result.getCreated()).isEqualTo(9_997);
+        assertThat(result.getRejected()).isEqualTo(3);
+        assertThat(result.getRows()).hasSize(10_000);
+        assertThat(result.getRows().get(17).getError()).isEqualTo("Title is required");
+        assertThat(result.getRows().get(42).getError()).isEqualTo("Capacity must be at least 1");
+        assertThat(result.getRows().get(99).getError()).isEqualTo("Event category is required");
+
+        // Every created row reports the id of its own event, and every event gets an empty aggregate
+        EventImportRowDTO row = result.getRows().get(500);
+        assertThat(row.getStatus()).isEqualTo(EventImportRowDTO.Status.CREATED);
+        assertThat(jdbc.queryForObject("SELECT title FROM events WHERE event_id = ?", String.class, row.getEventId()))
+                .isEqualTo("Season 500");
+        assertThat(count("SELECT COUNT(*) FROM events WHERE organizer_id = " + organizer.getUserId())).isEqualTo(9_997);
+        assertThat(count("SELECT COUNT(*) FROM event_review_stats")).isEqualTo(9_997);
+        assertThat(elapsedMs).isLessThan(30_000);
+
+        // Searchable only once the import has committed
+        assertThat(eventSearchIndex.search("season 500", 5)).doesNotContain(row.getEventId());
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        assertThat(eventSearchIndex.search("season 500", 5)).contains(row.getEventId());
+    }
+
+    @Test
+    void importCsv_ParsesQuotedFieldsAndUpdatesOnlyOwnEvents() throws Exception {
+        User rival = entityManager.persist(new User(null, "rival", "rival@example.com", "secret", Role.ORGANIZER));
+        Event own = entityManager.persist(new Event("Old title", "Old", LocalDateTime.now().plusDays(3), "Mysuru",
+                100, BigDecimal.TEN, organizer, EventCategory.MUSIC, null));
+        Event other = entityManager.persist(new Event("Theirs", "Not yours", LocalDateTime.now().plusDays(3), "Mysuru",
+                100, BigDecimal.TEN, rival, EventCategory.MUSIC, null));
+        entityManager.flush();
+        entityManager.clear();
+        jdbc.update("UPDATE events SET seats_taken = 40 WHERE event_id = ?", own.getEventId());
+
+        String csv = "title,description,dateTime,location,capacity,price,category,eventId\r\n" +
+                "\"Jazz, late\",\"Two sets,\n\"\"standing\"\" room\",2030-06-01T21:00:00,Bengaluru,80,12.50,music,\r\n" +
+                "Renamed,Updated,2030-06-02T19:00:00,Mysuru,120,15,MUSIC," + own.getEventId() + "\n" +
+                "Hijack,Nope,2030-06-02T19:00:00,Mysuru,120,15,MUSIC," + other.getEventId() + "\n" +
+                "Shrunk,Too small,2030-06-02T19:00:00,Mysuru,10,15,MUSIC," + own.getEventId() + "\n" +
+                "Bad date,x,next friday,Mysuru,10,15,MUSIC,\n" +
+                "\n";
+
+        EventImportResultDTO result = eventImportService.importCsv(new StringReader(csv), organizer.getUserId());
+
+        assertThat(result.getRows()).extracting(EventImportRowDTO::getStatus).containsExactly(
+                EventImportRowDTO.Status.CREATED, EventImportRowDTO.Status.UPDATED, EventImportRowDTO.Status.REJECTED,
+                EventImportRowDTO.Status.REJECTED, EventImportRowDTO.Status.REJECTED);
+        assertThat(result.getRows()).extracting(EventImportRowDTO::getError).containsExactly(
+                null, null, "Event not found or not yours", "Capacity is below the 40 seats already taken",
+                "dateTime must look like 2025-06-01T19:30:00");
+
+        assertThat(jdbc.queryForObject("SELECT description FROM events WHERE event_id = ?", String.class,
+                result.getRows().get(0).getEventId())).isEqualTo("Two sets,\n\"standing\" room");
+        assertThat(jdbc.queryForObject("SELECT title FROM events WHERE event_id = ?", String.class, own.getEventId()))
+                .isEqualTo("Renamed");
+        assertThat(jdbc.queryForObject("SELECT title FROM events WHERE event_id = ?", String.class, other.getEventId()))
+                .isEqualTo("Theirs");
+    }
+
+    @Test
+    void importCsv_PromotesTheWaitlistWhenCapacityGrows() throws Exception {
+        Event event = entityManager.persist(new Event("Full", "Full", LocalDateTime.now().plusDays(3), "Mysuru",
+                1, BigDecimal.TEN, organizer, EventCategory.MUSIC, null));
+        User first = entityManager.persist(new User(null, "first", "first@example.com", "secret", Role.USER));
+        User second = entityManager.persist(new User(null, "second", "second@example.com", "secret", Role.USER));
+        User third = entityManager.persist(new User(null, "third", "third@example.com", "secret", Role.USER));
+        entityManager.persist(new Registration(null, first, event, RegistrationStatus.CONFIRMED));
+        Registration early = entityManager.persist(new Registration(null, second, event, RegistrationStatus.WAITLISTED));
+        Registration late = entityManager.persist(new Registration(null, third, event, RegistrationStatus.WAITLISTED));
+        entityManager.flush();
+        entityManager.clear();
+        jdbc.update("UPDATE events SET seats_taken = 1 WHERE event_id = ?", event.getEventId());
+
+        String csv = "title,dateTime,location,capacity,price,category,eventId\n" +
+                "Bigger room,2030-06-02T19:00:00,Mysuru,2,15,MUSIC," + event.getEventId() + "\n";
+        EventImportResultDTO result = eventImportService.importCsv(new StringReader(csv), organizer.getUserId());
+
+        assertThat(result.getUpdated()).isEqualTo(1);
+        entityManager.flush();
+        assertThat(count("SELECT seats_taken FROM events WHERE event_id = " + event.getEventId())).isEqualTo(2);
+        assertThat(jdbc.queryForObject("SELECT status FROM registrations WHERE registration_id = ?", String.class,
+                early.getRegistrationId())).isEqualTo("CONFIRMED");
+        assertThat(jdbc.queryForObject("SELECT status FROM registrations WHERE registration_id = ?", String.class,
+                late.getRegistrationId())).isEqualTo("WAITLISTED");
+    }
+
+    @Test
+    void importCsv_StoresAndIndexesCoordinates() throws Exception {
+        String csv = "title,dateTime,location,capacity,price,category,latitude,longitude\n" +
+                "Lakeside,2030-06-01T18:00:00,Bengaluru,50,0,OUTDOOR,12.9716,77.5946\n" +
+                "Nowhere,2030-06-01T18:00:00,Bengaluru,50,0,OUTDOOR,12.9716,\n" +
+                "Unplaced,2030-06-01T18:00:00,Bengaluru,50,0,OUTDOOR,,\n";
+
+        EventImportResultDTO result = eventImportService.importCsv(new StringReader(csv), organizer.getUserId());
+
+        assertThat(result.getRows()).extracting(EventImportRowDTO::getError)
+                .containsExactly(null, "Latitude and longitude go together", null);
+        Long lakeside = result.getRows().get(0).getEventId();
+        assertThat(jdbc.queryForObject("SELECT longitude FROM events WHERE event_id = ?", Double.class, lakeside))
+                .isEqualTo(77.5946);
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        assertThat(eventGeoIndex.withinRadius(12.97, 77.59, 1, EventCategory.OUTDOOR, null, null, 10))
+                .extracting(EventGeoIndex.Hit::eventId).containsExactly(lakeside);
+    }
+
+    @Test
+    void importEvents_LeavesIndexesUntouchedWhenTheImportRollsBack() {
+        EventImportResultDTO result = eventImportService.importEvents(
+                List.of(event("Vanishing quartet", LocalDateTime.now().plusDays(2))), organizer.getUserId());
+        assertThat(result.getCreated()).isEqualTo(1);
+
+        TestTransaction.end();
+
+        assertThat(eventSearchIndex.search("vanishing quartet", 5)).isEmpty();
+    }
+
+    private EventDTO event(String title, LocalDateTime dateTime) {
+        EventDTO dto = new EventDTO();
+        dto.setTitle(title);
+        dto.setDescription("Imported");
+        dto.setDateTime(dateTime);
+        dto.setLocation("Bengaluru");
+        dto.setCapacity(200);
+        dto.setPrice(BigDecimal.TEN);
+        dto.setCategory(EventCategory.MUSIC);
+        return dto;
+    }
+
+    private long count(String sql) {
+        return jdbc.queryForObject(sql, Long.class);
+    }
+}
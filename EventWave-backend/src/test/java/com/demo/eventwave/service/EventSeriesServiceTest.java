@@ -0,0 +1,168 @@
+package com.demo.eventwave.service;
+
+import com.demo.eventwave.config.CacheConfig;
+import com.demo.eventwave.dto.EventDTO;
+import com.demo.eventwave.dto.EventSeriesDTO;
+import com.demo.eventwave.dto.PageDTO;
+import com.demo.eventwave.entity.*;
+import com.demo.eventwave.search.EventGeoIndex;
+import com.demo.eventwave.search.EventSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({EventSeriesService.class, AttendeeEventService.class, ReviewStatsService.class, EventSearchIndex.class, EventGeoIndex.class,
+        CacheConfig.class})
+class EventSeriesServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private EventSeriesService eventSeriesService;
+
+    @Autowired
+    private AttendeeEventService attendeeEventService;
+
+    private User organizer;
+    private LocalDateTime firstClass;
+
+    @BeforeEach
+    void setUp() {
+        organizer = entityManager.persist(new User(null, "organizer", "organizer@example.com", "secret", Role.ORGANIZER));
+        entityManager.flush();
+        firstClass = LocalDateTime.now().plusDays(1).withHour(18).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @Test
+    void filterByDateRange_ExpandsOccurrencesWithoutStoringThem() {
+        // Two years of weekly classes
+        EventSeriesDTO series = eventSeriesService.createSeries(weekly("Yoga", firstClass.plusYears(2)), organizer.getUserId());
+
+        List<EventDTO> month = attendeeEventService.filterByDateRange(firstClass.minusHours(1), firstClass.plusWeeks(4));
+
+        assertThat(month).extracting(EventDTO::getDateTime).containsExactly(
+                firstClass, firstClass.plusWeeks(1), firstClass.plusWeeks(2), firstClass.plusWeeks(3), firstClass.plusWeeks(4));
+        assertThat(month).allSatisfy(dto -> {
+            assertThat(dto.getSeriesId()).isEqualTo(series.getSeriesId());
+            assertThat(dto.getEventId()).isNull();
+            assertThat(dto.getOrganizerName()).isEqualTo("organizer");
+        });
+        assertThat(count("SELECT COUNT(*) FROM events")).isZero();
+
+        // A window deep into the series starts next to it, not at the first class
+        LocalDateTime later = firstClass.plusWeeks(80);
+        assertThat(attendeeEventService.filterByDateRange(later.minusDays(3), later.plusDays(3)))
+                .extracting(EventDTO::getDateTime).containsExactly(later);
+    }
+
+    @Test
+    void materializeOccurrence_CreatesOneRowThatReplacesTheExpandedOccurrence() {
+        EventSeriesDTO series = eventSeriesService.createSeries(weekly("Yoga", firstClass.plusWeeks(10)), organizer.getUserId());
+        LocalDateTime second = firstClass.plusWeeks(1);
+
+        Long eventId = eventSeriesService.materializeOccurrence(series.getSeriesId(), second);
+        assertThat(eventSeriesService.materializeOccurrence(series.getSeriesId(), second)).isEqualTo(eventId);
+        entityManager.flush();
+        assertThat(count("SELECT COUNT(*) FROM events")).isEqualTo(1);
+        assertThat(count("SELECT COUNT(*) FROM event_review_stats WHERE event_id = " + eventId)).isEqualTo(1);
+
+        List<EventDTO> listed = attendeeEventService.filterByDateRange(firstClass.minusHours(1), firstClass.plusWeeks(2));
+        assertThat(listed).extracting(EventDTO::getDateTime).containsExactly(firstClass, second, firstClass.plusWeeks(2));
+        assertThat(listed).extracting(EventDTO::getEventId).containsExactly(null, eventId, null);
+        assertThat(listed).extracting(EventDTO::getSeriesId).containsOnly(series.getSeriesId());
+
+        assertThatThrownBy(() -> eventSeriesService.materializeOccurrence(series.getSeriesId(), second.plusHours(1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Not an occurrence of this series");
+        assertThatThrownBy(() -> eventSeriesService.materializeOccurrence(series.getSeriesId(), firstClass.plusWeeks(11)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void getEventsPage_InterleavesEventsAndOccurrencesWithoutGapsOrDuplicates() {
+        EventSeriesDTO daily = eventSeriesService.createSeries(series("Run club", RecurrenceFrequency.DAILY, firstClass.plusDays(5)),
+                organizer.getUserId());
+        EventSeriesDTO weekly = eventSeriesService.createSeries(weekly("Yoga", firstClass.plusWeeks(1)), organizer.getUserId());
+        Long booked = eventSeriesService.materializeOccurrence(daily.getSeriesId(), firstClass.plusDays(2));
+        // A one-off event at the same time as two occurrences sorts ahead of them
+        Event oneOff = entityManager.persist(new Event("Concert", "One night only", firstClass, "Bengaluru",
+                100, BigDecimal.TEN, organizer, EventCategory.MUSIC, null));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            PageDTO<EventDTO> page = attendeeEventService.getEventsPage(null, null, null, null, null, cursor, 2);
+            page.getItems().forEach(e -> seen.add(e.getEventId() != null
+                    ? "e" + e.getEventId() : "s" + e.getSeriesId() + "@" + e.getDateTime().toLocalDate()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        String d = "s" + daily.getSeriesId() + "@";
+        String w = "s" + weekly.getSeriesId() + "@";
+        assertThat(seen).containsExactly(
+                "e" + oneOff.getEventId(), d + firstClass.toLocalDate(), w + firstClass.toLocalDate(),
+                d + firstClass.plusDays(1).toLocalDate(),
+                "e" + booked,
+                d + firstClass.plusDays(3).toLocalDate(), d + firstClass.plusDays(4).toLocalDate(),
+                d + firstClass.plusDays(5).toLocalDate(),
+                w + firstClass.plusWeeks(1).toLocalDate());
+        assertThat(count("SELECT COUNT(*) FROM events")).isEqualTo(2);
+    }
+
+    @Test
+    void occurrences_MonthlySeriesClampToShortMonthsWithoutDrifting() {
+        EventSeries series = new EventSeries();
+        series.setFirstStart(LocalDateTime.of(2031, 1, 31, 19, 0));
+        series.setFrequency(RecurrenceFrequency.MONTHLY);
+        series.setRepeatEvery(1);
+        series.setRepeatUntil(LocalDateTime.of(2031, 12, 31, 23, 0));
+
+        assertThat(series.occurrences(LocalDateTime.of(2031, 2, 1, 0, 0), null, 3)).containsExactly(
+                LocalDateTime.of(2031, 2, 28, 19, 0), LocalDateTime.of(2031, 3, 31, 19, 0), LocalDateTime.of(2031, 4, 30, 19, 0));
+        assertThat(series.isOccurrence(LocalDateTime.of(2031, 2, 28, 19, 0))).isTrue();
+        assertThat(series.isOccurrence(LocalDateTime.of(2031, 3, 28, 19, 0))).isFalse();
+    }
+
+    private EventSeriesDTO weekly(String title, LocalDateTime until) {
+        return series(title, RecurrenceFrequency.WEEKLY, until);
+    }
+
+    private EventSeriesDTO series(String title, RecurrenceFrequency frequency, LocalDateTime until) {
+        EventSeriesDTO dto = new EventSeriesDTO();
+        dto.setTitle(title);
+        dto.setDescription("Bring a mat");
+        dto.setLocation("Bengaluru");
+        dto.setCapacity(20);
+        dto.setPrice(BigDecimal.TEN);
+        dto.setCategory(EventCategory.HEALTH);
+        dto.setFirstStart(firstClass);
+        dto.setFrequency(frequency);
+        dto.setRepeatUntil(until);
+        return dto;
+    }
+
+    private long count(String sql) {
+        return jdbc.queryForObject(sql, Long.class);
+    }
+}
@@ -0,0 +1,304 @@
+package com.demo.eventwave.service;
+
+import com.demo.eventwave.config.CacheConfig;
+import com.demo.eventwave.dto.AttendeeDTO;
+import com.demo.eventwave.dto.EventDTO;
+import com.demo.eventwave.dto.PageDTO;
+import com.demo.eventwave.dto.ReviewDTO;
+import com.demo.eventwave.dto.ReviewSummaryDTO;
+import com.demo.eventwave.entity.*;
+import com.demo.eventwave.search.EventGeoIndex;
+import com.demo.eventwave.search.EventSearchIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.within;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({OrganizerEventService.class, AttendeeEventService.class, RegistrationService.class, ReviewStatsService.class,
+        EventSeriesService.class, EventSearchIndex.class, EventGeoIndex.class, CacheConfig.class, SimpleMeterRegistry.class})
+class OrganizerEventServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private OrganizerEventService organizerEventService;
+
+    @Autowired
+    private AttendeeEventService attendeeEventService;
+
+    private Statistics statistics;
+    private User organizer;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        organizer = entityManager.persist(new User(null, "organizer", "organizer@example.com", "secret", Role.ORGANIZER));
+    }
+
+    @Test
+    void getEventsByOrganizer_IsOneStatementRegardlessOfEventCount() {
+        assertThat(countStatementsForDashboardOf(5)).isEqualTo(1);
+        assertThat(countStatementsForDashboardOf(60)).isEqualTo(1);
+    }
+
+    @Test
+    void createReview_UpdatesAggregateIncrementally() {
+        Event event = persistPastEvent("Reviewed");
+        entityManager.persist(new EventReviewStats(event.getEventId()));
+        int[] ratings = {5, 4, 4, 2, 5};
+        for (int i = 0; i < ratings.length; i++) {
+            User attendee = persistAttendee(i, event);
+            attendeeEventService.createReview(event.getEventId(), attendee.getUserName(), ratings[i], "Great " + i);
+        }
+        // Text-only review: counted, but not rated
+        attendeeEventService.createReview(event.getEventId(), persistAttendee(9, event).getUserName(), null, "No stars");
+        entityManager.flush();
+        entityManager.clear();
+
+        ReviewSummaryDTO summary = organizerEventService.getEventReviewSummary(event.getEventId());
+        assertThat(summary.getTotalReviews()).isEqualTo(6);
+        assertThat(summary.getRatingCount()).isEqualTo(5);
+        assertThat(summary.getAverageRating()).isEqualTo(4.0);
+        assertThat(summary.getRatingStdDev()).isCloseTo(Math.sqrt(1.2), within(1e-9));
+        assertThat(summary.getMedianRating()).isEqualTo(4);
+        assertThat(summary.getP90Rating()).isEqualTo(5);
+        assertThat(summary.getHistogram()).containsExactly(
+                entry(1, 0L), entry(2, 1L), entry(3, 0L), entry(4, 2L), entry(5, 2L));
+        assertThat(organizerEventService.getEventsByOrganizer(organizer.getUserId()))
+                .singleElement().extracting(EventDTO::getReviewCount).isEqualTo(6);
+    }
+
+    @Test
+    void createReview_RejectsRatingOutsideOneToFive() {
+        Event event = persistPastEvent("Reviewed");
+        User attendee = persistAttendee(0, event);
+
+        assertThatThrownBy(() -> attendeeEventService.createReview(event.getEventId(), attendee.getUserName(), 6, "Too good"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void createReview_SeedsAggregateForEventsThatPredateIt() {
+        Event event = persistPastEvent("Legacy");
+        User earlier = persistAttendee(0, event);
+        Review legacy = new Review(event, earlier, "Reviewed before aggregates existed");
+        legacy.setRating(3);
+        entityManager.persist(legacy);
+        User later = persistAttendee(1, event);
+
+        attendeeEventService.createReview(event.getEventId(), later.getUserName(), 5, "New review");
+        entityManager.flush();
+        entityManager.clear();
+
+        ReviewSummaryDTO summary = organizerEventService.getEventReviewSummary(event.getEventId());
+        assertThat(summary.getTotalReviews()).isEqualTo(2);
+        assertThat(summary.getAverageRating()).isEqualTo(4.0);
+        assertThat(summary.getHistogram()).containsEntry(3, 1L).containsEntry(5, 1L);
+    }
+
+    @Test
+    void getEventReviewsPage_WalksNewestFirstWithOneStatementPerPage() {
+        Event event = persistPastEvent("Popular");
+        LocalDateTime base = LocalDateTime.now().minusHours(1).withNano(0);
+        for (int i = 0; i < 25; i++) {
+            Review review = new Review(event, persistAttendee(i, event), "Feedback " + i);
+            review.setRating(1 + i % 5);
+            // Pairs share a timestamp so the review_id tie-break is exercised
+            review.setCreatedAt(base.plusMinutes(i / 2));
+            entityManager.persist(review);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<ReviewDTO> walked = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        PageDTO<ReviewDTO> page;
+        do {
+            statistics.clear();
+            page = attendeeEventService.getEventReviewsPage(event.getEventId(), cursor, 10, true);
+            // Reviewer names come from the same projection query, no per-review user lookup
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            walked.addAll(page.getItems());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (page.isHasMore());
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(walked).hasSize(25)
+                .isSortedAccordingTo(Comparator.comparing(ReviewDTO::getCreatedAt)
+                        .thenComparing(ReviewDTO::getReviewId).reversed());
+        assertThat(walked).allSatisfy(dto -> {
+            assertThat(dto.getUserName()).startsWith("attendee");
+            assertThat(dto.getFeedback()).startsWith("Feedback ");
+        });
+
+        List<ReviewDTO> exported = new ArrayList<>();
+        organizerEventService.forEachReviewBatch(event.getEventId(), exported::addAll);
+        assertThat(exported).extracting(ReviewDTO::getReviewId)
+                .containsExactlyElementsOf(walked.stream().map(ReviewDTO::getReviewId).toList());
+
+        assertThat(organizerEventService.getEventReviewsPage(event.getEventId(), "organizer", null, 10).getItems())
+                .extracting(ReviewDTO::getReviewId)
+                .containsExactlyElementsOf(walked.subList(0, 10).stream().map(ReviewDTO::getReviewId).toList());
+
+        PageDTO<ReviewDTO> publicPage = attendeeEventService.getEventReviewsPage(event.getEventId(), null, 5, false);
+        assertThat(publicPage.getItems()).hasSize(5).allSatisfy(dto -> assertThat(dto.getFeedback()).isNull());
+        assertThat(publicPage.getItems().get(0).getReviewId()).isEqualTo(walked.get(0).getReviewId());
+    }
+
+    @Test
+    void getEventReviewsPage_RejectsOtherOrganizers() {
+        Event event = persistPastEvent("Private");
+        entityManager.persist(new User(null, "rival", "rival@example.com", "secret", Role.ORGANIZER));
+
+        assertThatThrownBy(() -> organizerEventService.getEventReviewsPage(event.getEventId(), "rival", null, 10))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Only the event organizer can view feedback");
+    }
+
+    @Test
+    void getEventAttendeesPage_WalksConfirmedAttendeesWithOneStatementPerPage() {
+        Event event = persistPastEvent("Sold out");
+        List<Long> confirmed = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            confirmed.add(persistAttendee(i, event).getUserId());
+        }
+        User waitlisted = entityManager.persist(new User(null, "late", "late@example.com", "secret", Role.USER));
+        entityManager.persist(new Registration(null, waitlisted, event, RegistrationStatus.WAITLISTED));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<AttendeeDTO> walked = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        PageDTO<AttendeeDTO> page;
+        do {
+            page = organizerEventService.getEventAttendeesPage(event.getEventId(), "organizer", cursor, 10);
+            walked.addAll(page.getItems());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (page.isHasMore());
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(walked).extracting(AttendeeDTO::getUserId).containsExactlyElementsOf(confirmed);
+        assertThat(walked).allSatisfy(dto -> assertThat(dto.getEmail()).endsWith("@example.com"));
+
+        // The export reads in keyset batches too: one statement per batch, no per-attendee user load
+        List<AttendeeDTO> exported = new ArrayList<>();
+        statistics.clear();
+        organizerEventService.forEachAttendeeBatch(event.getEventId(), exported::addAll);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(exported).extracting(AttendeeDTO::getRegistrationId)
+                .containsExactlyElementsOf(walked.stream().map(AttendeeDTO::getRegistrationId).toList());
+
+        entityManager.persist(new User(null, "rival", "rival@example.com", "secret", Role.ORGANIZER));
+        assertThatThrownBy(() -> organizerEventService.getEventAttendeesPage(event.getEventId(), "rival", null, 10))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Only the event organizer can view attendees");
+        assertThatThrownBy(() -> organizerEventService.getEventAttendeesPage(event.getEventId(), "organizer", "bogus", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void updateEvent_RejectsCapacityBelowSeatsTakenAndPromotesTheWaitlistWhenItGrows() {
+        Event event = entityManager.persist(new Event("Small room", "Description", LocalDateTime.now().plusDays(5),
+                "Bengaluru", 2, BigDecimal.TEN, organizer, EventCategory.MUSIC, null));
+        persistAttendee(0, event);
+        persistAttendee(1, event);
+        List<Long> waitlisted = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            User late = entityManager.persist(new User(null, "late" + i, "late" + i + "@example.com", "secret", Role.USER));
+            waitlisted.add(entityManager.persist(new Registration(null, late, event, RegistrationStatus.WAITLISTED))
+                    .getRegistrationId());
+        }
+        entityManager.flush();
+        entityManager.getEntityManager().createNativeQuery("UPDATE events SET seats_taken = 2 WHERE event_id = :id")
+                .setParameter("id", event.getEventId()).executeUpdate();
+        entityManager.clear();
+
+        EventDTO shrunk = organizerEventService.getEventByIdForOrganizer(event.getEventId(), organizer.getUserId());
+        shrunk.setCapacity(1);
+        assertThatThrownBy(() -> organizerEventService.updateEvent(event.getEventId(), shrunk, organizer.getUserId()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Capacity is below the 2 seats already taken");
+        entityManager.clear();
+
+        EventDTO grown = organizerEventService.getEventByIdForOrganizer(event.getEventId(), organizer.getUserId());
+        grown.setCapacity(4);
+        organizerEventService.updateEvent(event.getEventId(), grown, organizer.getUserId());
+        entityManager.flush();
+        entityManager.clear();
+
+        Event updated = entityManager.find(Event.class, event.getEventId());
+        assertThat(updated.getCapacity()).isEqualTo(4);
+        assertThat(updated.getSeatsTaken()).isEqualTo(4);
+        assertThat(waitlisted).extracting(id -> entityManager.find(Registration.class, id).getStatus()).containsExactly(
+                RegistrationStatus.CONFIRMED, RegistrationStatus.CONFIRMED, RegistrationStatus.WAITLISTED);
+    }
+
+    private long countStatementsForDashboardOf(int size) {
+        entityManager.getEntityManager().createQuery("DELETE FROM EventReviewStats").executeUpdate();
+        entityManager.getEntityManager().createQuery("DELETE FROM Event").executeUpdate();
+        for (int i = 0; i < size; i++) {
+            Event event = entityManager.persist(new Event("Event " + i, "Description", LocalDateTime.now().plusDays(i + 1),
+                    "Bengaluru", 100, BigDecimal.TEN, organizer, EventCategory.MUSIC, null));
+            // Odd events predate the aggregate and have no stats row
+            if (i % 2 == 0) {
+                EventReviewStats stats = new EventReviewStats(event.getEventId());
+                stats.setReviewCount(i);
+                entityManager.persist(stats);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics.clear();
+        List<EventDTO> events = organizerEventService.getEventsByOrganizer(organizer.getUserId());
+        long statements = statistics.getPrepareStatementCount();
+
+        assertThat(events).hasSize(size);
+        assertThat(events).allSatisfy(dto -> {
+            int index = Integer.parseInt(dto.getTitle().substring("Event ".length()));
+            assertThat(dto.getReviewCount()).isEqualTo(index % 2 == 0 ? index : 0);
+            assertThat(dto.getOrganizerName()).isEqualTo("organizer");
+        });
+        return statements;
+    }
+
+    private Event persistPastEvent(String title) {
+        return entityManager.persist(new Event(title, "Description", LocalDateTime.now().minusDays(1),
+                "Bengaluru", 100, BigDecimal.TEN, organizer, EventCategory.MUSIC, null));
+    }
+
+    private User persistAttendee(int index, Event event) {
+        User attendee = entityManager.persist(new User(null, "attendee" + index, "attendee" + index + "@example.com",
+                "secret", Role.USER));
+        entityManager.persist(new Registration(null, attendee, event, RegistrationStatus.CONFIRMED));
+        return attendee;
+    }
+}
@@ -0,0 +1,86 @@
+package com.demo.eventwave.service;
+
+import com.demo.eventwave.dto.EventRegisterResponse;
+import com.demo.eventwave.dto.RegistrationOutcome;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RegistrationAdmissionQueueTest {
+
+    // Far more submitters than cores, so some get preempted between finding a lane and queueing into it
+    private static final int SUBMITTERS = 64;
+    private static final int ROUNDS = 2000;
+    private static final int EVENTS = 8;
+
+    @Test
+    void submit_NeverDrainsOneEventOnTwoWorkersWhileLanesComeAndGo() throws Exception {
+        Map<Long, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        RegistrationService registrationService = new RegistrationService() {
+            @Override
+            public Map<Long, EventRegisterResponse> registerBatch(Long eventId, Collection<Long> userIds) {
+                AtomicInteger workers = inFlight.computeIfAbsent(eventId, id -> new AtomicInteger());
+                maxInFlight.accumulateAndGet(workers.incrementAndGet(), Math::max);
+                try {
+                    LockSupport.parkNanos(20_000);
+                    Map<Long, EventRegisterResponse> results = new HashMap<>();
+                    userIds.forEach(userId -> results.put(userId,
+                            new EventRegisterResponse(RegistrationOutcome.CONFIRMED, "ok", null, null)));
+                    return results;
+                } finally {
+                    workers.decrementAndGet();
+                }
+            }
+        };
+        // Batches of one, so the lane empties and is dropped as often as possible
+        RegistrationAdmissionQueue queue = new RegistrationAdmissionQueue(registrationService, 4, 1, 1000,
+                new SimpleMeterRegistry());
+        ExecutorService pool = Executors.newFixedThreadPool(SUBMITTERS);
+        CyclicBarrier start = new CyclicBarrier(SUBMITTERS);
+        try {
+            List<Future<List<CompletableFuture<EventRegisterResponse>>>> submitters = new ArrayList<>();
+            for (int s = 0; s < SUBMITTERS; s++) {
+                long userId = s;
+                submitters.add(pool.submit(() -> {
+                    start.await();
+                    List<CompletableFuture<EventRegisterResponse>> results = new ArrayList<>(ROUNDS);
+                    for (int round = 0; round < ROUNDS; round++) {
+                        results.add(queue.submit(userId, (long) (round % EVENTS)));
+                        if (round % 2 == 0) {
+                            results.get(round).get(10, TimeUnit.SECONDS);
+                        }
+                    }
+                    return results;
+                }));
+            }
+            for (Future<List<CompletableFuture<EventRegisterResponse>>> submitter : submitters) {
+                for (CompletableFuture<EventRegisterResponse> result : submitter.get(1, TimeUnit.MINUTES)) {
+                    assertThat(result.get(10, TimeUnit.SECONDS).getOutcome()).isEqualTo(RegistrationOutcome.CONFIRMED);
+                }
+            }
+        } finally {
+            pool.shutdown();
+            queue.shutdown();
+        }
+
+        assertThat(maxInFlight.get()).isEqualTo(1);
+        assertThat(queue.stats().getDepthByEvent()).isEmpty();
+    }
+}
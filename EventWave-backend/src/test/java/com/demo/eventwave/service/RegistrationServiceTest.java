@@ -0,0 +1,228 @@
+package com.demo.eventwave.service;
+
+import com.demo.eventwave.dto.EventRegisterResponse;
+import com.demo.eventwave.dto.RegistrationOutcome;
+import com.demo.eventwave.dto.UserDTO;
+import com.demo.eventwave.entity.Event;
+import com.demo.eventwave.entity.EventCategory;
+import com.demo.eventwave.entity.RegistrationStatus;
+import com.demo.eventwave.entity.Role;
+import com.demo.eventwave.entity.User;
+import com.demo.eventwave.repository.EventRepository;
+import com.demo.eventwave.repository.RegistrationRepository;
+import com.demo.eventwave.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against a real (non-rolled-back) embedded database so that every
+ * registration commits in its own transaction, as it does in production.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:registrations;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=30000",
+        "spring.datasource.driver-class-name=org.h2.Driver"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("test")
+@Import({RegistrationService.class, RegistrationAdmissionQueue.class, SimpleMeterRegistry.class})
+class RegistrationServiceTest {
+
+    private static final int ATTENDEES = 2000;
+    private static final int CAPACITY = 150;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private RegistrationService registrationService;
+
+    @Autowired
+    private RegistrationAdmissionQueue admissionQueue;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    private Event event;
+    private List<User> attendees;
+
+    @BeforeEach
+    void setUp() {
+        User organizer = userRepository.save(new User(null, "organizer", "organizer@example.com", "secret", Role.ORGANIZER));
+        event = eventRepository.save(new Event("Ticket drop", "Hot event", LocalDateTime.now().plusDays(7),
+                "Bengaluru", CAPACITY, BigDecimal.TEN, organizer, EventCategory.MUSIC, null));
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < ATTENDEES; i++) {
+            users.add(new User(null, "attendee" + i, "attendee" + i + "@example.com", "secret", Role.USER));
+        }
+        attendees = userRepository.saveAll(users);
+    }
+
+    @AfterEach
+    void tearDown() {
+        registrationRepository.deleteAllInBatch();
+        eventRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void registerUserForEvent_NeverOversellsUnderConcurrency() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<EventRegisterResponse>> results = new ArrayList<>();
+        for (User attendee : attendees) {
+            results.add(pool.submit(() -> {
+                start.await();
+                return registrationService.registerUserForEvent(attendee.getUserId(), event.getEventId());
+            }));
+        }
+        start.countDown();
+
+        int confirmed = 0;
+        int waitlisted = 0;
+        for (Future<EventRegisterResponse> result : results) {
+            String message = result.get(2, TimeUnit.MINUTES).getMessage();
+            if (message.equals("Registration successful.")) {
+                confirmed++;
+            } else if (message.equals("Event is full. You have been added to the waitlist.")) {
+                waitlisted++;
+            }
+        }
+        pool.shutdown();
+
+        assertThat(confirmed).isEqualTo(CAPACITY);
+        assertThat(waitlisted).isEqualTo(ATTENDEES - CAPACITY);
+        assertThat(registrationRepository.countByEventAndStatus(event, RegistrationStatus.CONFIRMED)).isEqualTo(CAPACITY);
+        assertThat(eventRepository.findById(event.getEventId()).orElseThrow().getSeatsTaken()).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    void admissionQueue_ConfirmsExactlyCapacityInBatches() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<CompletableFuture<EventRegisterResponse>>> submissions = new ArrayList<>();
+        for (User attendee : attendees) {
+            submissions.add(pool.submit(() -> admissionQueue.submit(attendee.getUserId(), event.getEventId())));
+        }
+        // Same user twice must not take a second seat
+        CompletableFuture<EventRegisterResponse> duplicate =
+                admissionQueue.submit(attendees.get(0).getUserId(), event.getEventId());
+
+        Map<RegistrationOutcome, Integer> outcomes = new EnumMap<>(RegistrationOutcome.class);
+        for (Future<CompletableFuture<EventRegisterResponse>> submission : submissions) {
+            EventRegisterResponse response = submission.get().get(2, TimeUnit.MINUTES);
+            outcomes.merge(response.getOutcome(), 1, Integer::sum);
+        }
+        duplicate.get(2, TimeUnit.MINUTES);
+        pool.shutdown();
+
+        assertThat(outcomes.get(RegistrationOutcome.CONFIRMED)).isEqualTo(CAPACITY);
+        assertThat(outcomes.get(RegistrationOutcome.WAITLISTED)).isEqualTo(ATTENDEES - CAPACITY);
+        assertThat(registrationRepository.countByEventAndStatus(event, RegistrationStatus.CONFIRMED)).isEqualTo(CAPACITY);
+        assertThat(registrationRepository.countByEventAndStatus(event, RegistrationStatus.WAITLISTED)).isEqualTo(ATTENDEES - CAPACITY);
+        assertThat(eventRepository.findById(event.getEventId()).orElseThrow().getSeatsTaken()).isEqualTo(CAPACITY);
+        assertThat(admissionQueue.queueDepth(event.getEventId())).isZero();
+        assertThat(admissionQueue.stats().getProcessed()).isGreaterThanOrEqualTo(ATTENDEES);
+    }
+
+    @Test
+    void registerUserForEvent_CountsOutcomes() {
+        double confirmed = meterRegistry.counter("eventwave.registrations", "outcome", "confirmed").count();
+        double waitlisted = meterRegistry.counter("eventwave.registrations", "outcome", "waitlisted").count();
+        double alreadyRegistered = meterRegistry.counter("eventwave.registrations", "outcome", "already_registered").count();
+
+        for (int i = 0; i < CAPACITY + 3; i++) {
+            registrationService.registerUserForEvent(attendees.get(i).getUserId(), event.getEventId());
+        }
+        registrationService.registerUserForEvent(attendees.get(0).getUserId(), event.getEventId());
+
+        assertThat(meterRegistry.counter("eventwave.registrations", "outcome", "confirmed").count() - confirmed).isEqualTo(CAPACITY);
+        assertThat(meterRegistry.counter("eventwave.registrations", "outcome", "waitlisted").count() - waitlisted).isEqualTo(3);
+        assertThat(meterRegistry.counter("eventwave.registrations", "outcome", "already_registered").count() - alreadyRegistered)
+                .isEqualTo(1);
+    }
+
+    @Test
+    void registerBatch_TellsRepeatCallersWhetherTheyHoldASeatOrAreWaitlisted() {
+        for (int i = 0; i < CAPACITY + 1; i++) {
+            registrationService.registerUserForEvent(attendees.get(i).getUserId(), event.getEventId());
+        }
+        Long seated = attendees.get(0).getUserId();
+        Long waitlisted = attendees.get(CAPACITY).getUserId();
+
+        Map<Long, EventRegisterResponse> results = registrationService.registerBatch(event.getEventId(), List.of(seated, waitlisted));
+
+        assertThat(results.get(seated).getOutcome()).isEqualTo(RegistrationOutcome.ALREADY_REGISTERED);
+        assertThat(results.get(seated).getMessage()).isEqualTo("Already registered.");
+        assertThat(results.get(waitlisted).getOutcome()).isEqualTo(RegistrationOutcome.ALREADY_REGISTERED);
+        assertThat(results.get(waitlisted).getMessage()).isEqualTo("Already on the waitlist.");
+    }
+
+    @Test
+    void unregisterUserFromEvent_ReleasesSeat() {
+        Long userId = attendees.get(0).getUserId();
+        registrationService.registerUserForEvent(userId, event.getEventId());
+
+        registrationService.unregisterUserFromEvent(userId, event.getEventId());
+
+        assertThat(eventRepository.findById(event.getEventId()).orElseThrow().getSeatsTaken()).isZero();
+        assertThat(registrationRepository.countByEvent(event)).isZero();
+    }
+
+    @Test
+    void unregisterUserFromEvent_PromotesWaitlistHeadInOrder() {
+        for (int i = 0; i < CAPACITY + 2; i++) {
+            registrationService.registerUserForEvent(attendees.get(i).getUserId(), event.getEventId());
+        }
+        User first = attendees.get(CAPACITY);
+        User second = attendees.get(CAPACITY + 1);
+        assertThat(registrationService.getWaitlistForEvent(event.getEventId()))
+                .extracting(UserDTO::getUserId)
+                .containsExactly(first.getUserId(), second.getUserId());
+
+        registrationService.unregisterUserFromEvent(attendees.get(0).getUserId(), event.getEventId());
+
+        assertThat(registrationRepository.findByUser_UserIdAndEvent_EventId(first.getUserId(), event.getEventId())
+                .orElseThrow().getStatus()).isEqualTo(RegistrationStatus.CONFIRMED);
+        assertThat(registrationRepository.findByUser_UserIdAndEvent_EventId(second.getUserId(), event.getEventId())
+                .orElseThrow().getStatus()).isEqualTo(RegistrationStatus.WAITLISTED);
+        assertThat(eventRepository.findById(event.getEventId()).orElseThrow().getSeatsTaken()).isEqualTo(CAPACITY);
+
+        // Leaving the waitlist does not touch the seat count
+        registrationService.unregisterUserFromEvent(second.getUserId(), event.getEventId());
+        assertThat(registrationRepository.countByEventAndStatus(event, RegistrationStatus.WAITLISTED)).isZero();
+        assertThat(eventRepository.findById(event.getEventId()).orElseThrow().getSeatsTaken()).isEqualTo(CAPACITY);
+    }
+}
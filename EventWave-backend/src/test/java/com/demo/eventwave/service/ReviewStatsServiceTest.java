@@ -0,0 +1,117 @@
+package com.demo.eventwave.service;
+
+import com.demo.eventwave.entity.Event;
+import com.demo.eventwave.entity.EventCategory;
+import com.demo.eventwave.entity.EventReviewStats;
+import com.demo.eventwave.entity.Review;
+import com.demo.eventwave.entity.Role;
+import com.demo.eventwave.entity.User;
+import com.demo.eventwave.repository.EventRepository;
+import com.demo.eventwave.repository.EventReviewStatsRepository;
+import com.demo.eventwave.repository.ReviewRepository;
+import com.demo.eventwave.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against a real (non-rolled-back) embedded database so that two reviews can race in
+ * separate transactions, as they do in production.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:review-stats;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=30000",
+        "spring.datasource.driver-class-name=org.h2.Driver"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("test")
+@Import(ReviewStatsService.class)
+class ReviewStatsServiceTest {
+
+    @Autowired
+    private ReviewStatsService reviewStatsService;
+
+    @Autowired
+    private EventReviewStatsRepository statsRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        statsRepository.deleteAllInBatch();
+        reviewRepository.deleteAllInBatch();
+        eventRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void recordReview_CountsBothReviewsWhenTwoSeedTheAggregateAtOnce() throws Exception {
+        User organizer = userRepository.save(new User(null, "organizer", "organizer@example.com", "secret", Role.ORGANIZER));
+        User first = userRepository.save(new User(null, "first", "first@example.com", "secret", Role.USER));
+        User second = userRepository.save(new User(null, "second", "second@example.com", "secret", Role.USER));
+        // Predates the aggregate, so whichever review comes first seeds it
+        Event event = eventRepository.save(new Event("Reviewed", "Description", LocalDateTime.now().minusDays(1),
+                "Bengaluru", 100, BigDecimal.TEN, organizer, EventCategory.MUSIC, null));
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // The first review seeds the row but has not committed when the second one misses it
+        CountDownLatch seeded = new CountDownLatch(1);
+        CountDownLatch secondStarted = new CountDownLatch(1);
+        CompletableFuture<Void> firstReview = CompletableFuture.runAsync(() -> transaction.executeWithoutResult(status -> {
+            review(event, first, 5);
+            reviewStatsService.recordReview(event.getEventId(), 5);
+            seeded.countDown();
+            try {
+                secondStarted.await(10, TimeUnit.SECONDS);
+                Thread.sleep(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertThat(seeded.await(10, TimeUnit.SECONDS)).isTrue();
+        transaction.executeWithoutResult(status -> {
+            review(event, second, 3);
+            secondStarted.countDown();
+            reviewStatsService.recordReview(event.getEventId(), 3);
+        });
+        firstReview.get(10, TimeUnit.SECONDS);
+
+        EventReviewStats stats = reviewStatsService.getStats(event.getEventId());
+        assertThat(stats.getReviewCount()).isEqualTo(2);
+        assertThat(stats.getRatingSum()).isEqualTo(8);
+        assertThat(stats.getStars3()).isEqualTo(1);
+        assertThat(stats.getStars5()).isEqualTo(1);
+    }
+
+    private void review(Event event, User user, int rating) {
+        Review review = new Review(event, user, "Rated " + rating);
+        review.setRating(rating);
+        reviewRepository.save(review);
+    }
+}
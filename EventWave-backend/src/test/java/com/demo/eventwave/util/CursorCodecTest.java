@@ -0,0 +1,40 @@
+package com.demo.eventwave.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorCodecTest {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2030, 6, 1, 19, 30);
+
+    @Test
+    void cursorsRoundTripThroughTheCodec() {
+        EventCursor event = EventCursor.decode(new EventCursor(AT, 42L).encode());
+        EventCursor occurrence = EventCursor.decode(EventCursor.atOccurrence(AT, 7L).encode());
+        ReviewCursor review = ReviewCursor.decode(new ReviewCursor(AT, 9L).encode());
+
+        assertThat(event.getDateTime()).isEqualTo(AT);
+        assertThat(event.getEventId()).isEqualTo(42L);
+        assertThat(occurrence.getSeriesId()).isEqualTo(7L);
+        assertThat(occurrence.getEventId()).isNull();
+        assertThat(review.getReviewId()).isEqualTo(9L);
+        Long registrationId = CursorCodec.decode(CursorCodec.encode(5L), 1, fields -> Long.valueOf(fields[0]));
+        assertThat(registrationId).isEqualTo(5L);
+    }
+
+    @Test
+    void blankCursorsMeanTheFirstPageAndGarbageIsRejected() {
+        assertThat(EventCursor.decode(null)).isNull();
+        assertThat(ReviewCursor.decode(" ")).isNull();
+
+        assertThatThrownBy(() -> EventCursor.decode("not base64!")).hasMessage("Invalid cursor");
+        assertThatThrownBy(() -> ReviewCursor.decode(CursorCodec.encode(AT))).hasMessage("Invalid cursor");
+        assertThatThrownBy(() -> ReviewCursor.decode(CursorCodec.encode("yesterday", 1))).hasMessage("Invalid cursor");
+        assertThatThrownBy(() -> CursorCodec.decode(CursorCodec.encode("r5"), 1, fields -> Long.valueOf(fields[0])))
+                .hasMessage("Invalid cursor");
+    }
+}